@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.core.commands.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning the execution of a command by the
+ * {@link HandlerServiceImpl}.
+ */
+@Name("org.eclipse.e4.core.commands.CommandExecution")
+@Label("Command Execution")
+@Category({ "Eclipse", "Commands" })
+@Description("Execution of a command by its active handler")
+@StackTrace(false)
+public final class CommandExecutionEvent extends Event {
+	@Label("Command")
+	String commandId;
+
+	@Label("Failed")
+	@Description("Whether the command was not defined, enabled or handled, or its handler failed")
+	boolean failed;
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.core.commands.internal;
+
+/**
+ * Records the {@link CommandExecutionEvent}s of the {@link HandlerServiceImpl}.
+ * The flight recorder API is imported optionally, so the event is only used if
+ * the API can be loaded by this bundle. The events are passed around as
+ * objects so that the callers do not refer to the event class.
+ */
+final class CommandExecutionRecorder {
+
+	private static volatile boolean enabled = isFlightRecorderWired();
+
+	private CommandExecutionRecorder() {
+	}
+
+	/**
+	 * Begins the event of the execution of a command.
+	 *
+	 * @return the event, or <code>null</code> if the flight recorder is not
+	 *         available
+	 */
+	static Object begin() {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			CommandExecutionEvent event = new CommandExecutionEvent();
+			event.begin();
+			return event;
+		} catch (LinkageError e) {
+			enabled = false;
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the event of the execution of a command, and commits it if a
+	 * recording includes it.
+	 *
+	 * @param event     the event returned by {@link #begin()}, or
+	 *                  <code>null</code>
+	 * @param commandId the id of the executed command
+	 * @param failed    whether the command could not be executed or failed
+	 */
+	static void commit(Object event, String commandId, boolean failed) {
+		if (event == null) {
+			return;
+		}
+		CommandExecutionEvent jfrEvent = (CommandExecutionEvent) event;
+		jfrEvent.end();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.commandId = commandId;
+			jfrEvent.failed = failed;
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, CommandExecutionRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
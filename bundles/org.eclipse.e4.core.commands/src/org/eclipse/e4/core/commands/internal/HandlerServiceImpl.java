@@ -200,13 +200,18 @@ public class HandlerServiceImpl implements EHandlerService {
 		final IEclipseContext executionContext = getExecutionContext();
 		addParms(command, staticContext);
 		push(executionContext, staticContext);
+		Object jfrEvent = CommandExecutionRecorder.begin();
+		boolean failed = true;
 		try {
-			return command.executeWithChecks(staticContext.get(SWT_TRIGGER), new ExpressionContext(
-					peek().context));
+			Object result = command.executeWithChecks(staticContext.get(SWT_TRIGGER),
+					new ExpressionContext(peek().context));
+			failed = false;
+			return result;
 		} catch (ExecutionException | NotDefinedException | NotEnabledException | NotHandledException e) {
 			staticContext.set(HANDLER_EXCEPTION, e);
 		} finally {
 			pop();
+			CommandExecutionRecorder.commit(jfrEvent, command.getId(), failed);
 		}
 		return null;
 	}
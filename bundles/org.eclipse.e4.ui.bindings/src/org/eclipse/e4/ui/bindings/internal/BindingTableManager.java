@@ -18,7 +18,6 @@ import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.ListIterator;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -38,6 +37,25 @@ public class BindingTableManager {
 
 	private String[] activeSchemeIds;
 
+	/**
+	 * The binding tables of the context set looked up last. Every key stroke looks
+	 * up the same active context set several times, so this avoids resolving each
+	 * table through the eclipse context on every lookup.
+	 */
+	private ResolvedTables lastResolvedTables;
+
+	private static final class ResolvedTables {
+		final ContextSet contextSet;
+
+		// in context set order, the most specific context is last
+		final BindingTable[] tables;
+
+		ResolvedTables(ContextSet contextSet, BindingTable[] tables) {
+			this.contextSet = contextSet;
+			this.tables = tables;
+		}
+	}
+
 	public void addTable(BindingTable table) {
 		String contextId = getTableId(table.getId());
 		if (eclipseContext.containsKey(contextId)) {
@@ -45,6 +63,7 @@ public class BindingTableManager {
 			//			throw new IllegalArgumentException("Already contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.set(contextId, table);
+		lastResolvedTables = null;
 		final List<Context> contexts = definedTables.getContexts();
 		if (!contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -63,6 +82,7 @@ public class BindingTableManager {
 			throw new IllegalArgumentException("Does not contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.remove(contextId);
+		lastResolvedTables = null;
 		final List<Context> contexts = definedTables.getContexts();
 		if (contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -75,6 +95,29 @@ public class BindingTableManager {
 		return (BindingTable) eclipseContext.get(getTableId(id));
 	}
 
+	/**
+	 * Returns the binding tables defined for the contexts of the given set, in the
+	 * order of the context set. The result is cached until the context set or the
+	 * defined tables change and must not be modified.
+	 */
+	private BindingTable[] getTables(ContextSet contextSet) {
+		ResolvedTables resolved = lastResolvedTables;
+		if (resolved != null && resolved.contextSet == contextSet) {
+			return resolved.tables;
+		}
+		List<Context> contexts = contextSet.getContexts();
+		List<BindingTable> tables = new ArrayList<>(contexts.size());
+		for (Context ctx : contexts) {
+			BindingTable table = getTable(ctx.getId());
+			if (table != null) {
+				tables.add(table);
+			}
+		}
+		resolved = new ResolvedTables(contextSet, tables.toArray(new BindingTable[tables.size()]));
+		lastResolvedTables = resolved;
+		return resolved.tables;
+	}
+
 	// we're just going through each binding table, and returning a
 	// flat list of bindings here
 	public Collection<Binding> getActiveBindings() {
@@ -94,17 +137,17 @@ public class BindingTableManager {
 
 	public Collection<Binding> getConflictsFor(ContextSet contextSet,
 			TriggerSequence triggerSequence) {
-		Collection<Binding> matches = new ArrayList<>();
-		for (Context ctx : contextSet.getContexts()) {
-			BindingTable table = getTable(ctx.getId());
-			if (table != null) {
-				final Collection<Binding> matchesFor = table.getConflictsFor(triggerSequence);
-				if (matchesFor != null) {
-					matches.addAll(matchesFor);
+		Collection<Binding> matches = null;
+		for (BindingTable table : getTables(contextSet)) {
+			final Collection<Binding> matchesFor = table.getConflictsFor(triggerSequence);
+			if (matchesFor != null && !matchesFor.isEmpty()) {
+				if (matches == null) {
+					matches = new ArrayList<>();
 				}
+				matches.addAll(matchesFor);
 			}
 		}
-		return matches.isEmpty() ? null : matches;
+		return matches;
 	}
 
 	public Collection<Binding> getAllConflicts() {
@@ -124,14 +167,9 @@ public class BindingTableManager {
 	public Binding getPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
 		Binding result = null;
 		Binding currentResult = null;
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				currentResult = table.getPerfectMatch(triggerSequence);
-			}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			currentResult = tables[i].getPerfectMatch(triggerSequence);
 			if (currentResult != null) {
 				if (isMostActiveScheme(currentResult)) {
 					return currentResult;
@@ -170,16 +208,11 @@ public class BindingTableManager {
 	public Collection<Binding> getSequencesFor(ContextSet contextSet,
 			ParameterizedCommand parameterizedCommand) {
 		ArrayList<Binding> bindings = new ArrayList<>();
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				Collection<Binding> sequences = table.getSequencesFor(parameterizedCommand);
-				if (sequences != null) {
-					bindings.addAll(sequences);
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			Collection<Binding> sequences = tables[i].getSequencesFor(parameterizedCommand);
+			if (sequences != null) {
+				bindings.addAll(sequences);
 			}
 		}
 		bindings.sort(BindingTable.BEST_SEQUENCE);
@@ -188,28 +221,20 @@ public class BindingTableManager {
 
 	public Collection<Binding> getBindingsFor(ContextSet contextSet, ParameterizedCommand cmd) {
 		Collection<Binding> bindings = new ArrayList<>();
-		for (Context ctx : contextSet.getContexts()) {
-			BindingTable table = getTable(ctx.getId());
-			if (table != null) {
-				Collection<Binding> matches = table.getSequencesFor(cmd);
-				if (matches != null) {
-					bindings.addAll(matches);
-				}
+		for (BindingTable table : getTables(contextSet)) {
+			Collection<Binding> matches = table.getSequencesFor(cmd);
+			if (matches != null) {
+				bindings.addAll(matches);
 			}
 		}
 		return bindings;
 	}
 
 	public boolean isPartialMatch(ContextSet contextSet, TriggerSequence sequence) {
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				if (table.isPartialMatch(sequence)) {
-					return true;
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			if (tables[i].isPartialMatch(sequence)) {
+				return true;
 			}
 		}
 		return false;
@@ -217,16 +242,11 @@ public class BindingTableManager {
 
 	public Collection<Binding> getPartialMatches(ContextSet contextSet, TriggerSequence sequence) {
 		ArrayList<Binding> bindings = new ArrayList<>();
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				Collection<Binding> partialMatches = table.getPartialMatches(sequence);
-				if (partialMatches != null) {
-					bindings.addAll(partialMatches);
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			Collection<Binding> partialMatches = tables[i].getPartialMatches(sequence);
+			if (partialMatches != null) {
+				bindings.addAll(partialMatches);
 			}
 		}
 		return bindings;
@@ -517,20 +517,6 @@ public class KeyBindingDispatcher {
 		return getBindingService().isPartialMatch(keySequence);
 	}
 
-	/**
-	 * Determines whether the key sequence perfectly matches on of the active key
-	 * bindings.
-	 *
-	 * @param keySequence
-	 *            The key sequence to check for a perfect match; must never be
-	 *            <code>null</code>.
-	 * @return <code>true</code> if there is a perfect match; <code>false</code>
-	 *         otherwise.
-	 */
-	private boolean isUniqueMatch(KeySequence keySequence, IEclipseContext context2) {
-		return getExecutableMatches(keySequence, context2).size() == 1;
-	}
-
 	private Collection<Binding> getExecutableMatches(KeySequence keySequence, IEclipseContext context2) {
 		Binding binding = getBindingService().getPerfectMatch(keySequence);
 		if (binding != null) {
@@ -561,9 +547,11 @@ public class KeyBindingDispatcher {
 						logger.trace("Partial match: " + sequenceAfterKeyStroke + " in " + describe(context)); //$NON-NLS-1$ //$NON-NLS-2$
 					}
 					return true;
+				}
 
-				} else if (isUniqueMatch(sequenceAfterKeyStroke, staticContext)) {
-					Collection<Binding> executableMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
+				// resolved once, used for both the unique match and the error case
+				Collection<Binding> executableMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
+				if (executableMatches.size() == 1) {
 					final ParameterizedCommand cmd = executableMatches.iterator().next().getParameterizedCommand();
 					try {
 						return executeCommand(cmd, event) || !sequenceBeforeKeyStroke.isEmpty();
@@ -589,18 +577,17 @@ public class KeyBindingDispatcher {
 					return false;
 
 				} else {
-					Collection<Binding> errorMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
-					if (!errorMatches.isEmpty()) {
+					if (!executableMatches.isEmpty()) {
 						errorSequence = sequenceAfterKeyStroke;
-						errorMatch = errorMatches;
+						errorMatch = executableMatches;
 						if (isTracingEnabled()) {
-							logger.trace("Error matches for key: " + sequenceAfterKeyStroke + ", :" + errorMatches); //$NON-NLS-1$//$NON-NLS-2$
+							logger.trace("Error matches for key: " + sequenceAfterKeyStroke + ", :" + executableMatches); //$NON-NLS-1$//$NON-NLS-2$
 						}
 
 						if (sequenceBeforeKeyStroke.isEmpty() && keyAssistDialog != null
-								&& keyAssistDialog.isShowingBindings(errorMatches)) {
+								&& keyAssistDialog.isShowingBindings(executableMatches)) {
 							if (isTracingEnabled()) {
-								logger.trace("Key assist dialog is already showing error matches: " + errorMatches); //$NON-NLS-1$
+								logger.trace("Key assist dialog is already showing error matches: " + executableMatches); //$NON-NLS-1$
 							}
 							return false;
 						}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSStyleDeclaration;
+
+/**
+ * Everything the selectors of a {@link StyleRuleIndex} can test on an element:
+ * its name, id, classes, pseudo classes and the attributes used by the
+ * selectors, plus the key of its parent for the descendant and child
+ * selectors. Elements with equal keys have the same computed style, which is
+ * stored on the canonical key instance so that it is computed only once.
+ * <p>
+ * Parent keys are always canonical, so keys of siblings share the key of their
+ * ancestors and compare them by identity.
+ * </p>
+ */
+final class StyleKey {
+
+	private static final byte PSEUDO_INSTANCE = 1;
+	private static final byte STATIC_PSEUDO_INSTANCE = 2;
+
+	private final StyleKey parent;
+	private final String name;
+	private final String namespaceURI;
+	private final String id;
+	private final String cssClass;
+	private final byte[] pseudoClasses;
+	private final String[] attributes;
+	private final int hashCode;
+
+	private boolean styleComputed;
+	private CSSStyleDeclaration style;
+	private Map<String, CSSStyleDeclaration> pseudoStyles;
+
+	StyleKey(Element elt, StyleKey parent, StyleRuleIndex ruleIndex) {
+		this.parent = parent;
+		this.name = StyleRuleIndex.getName(elt);
+		this.namespaceURI = elt.getNamespaceURI();
+		this.id = StyleRuleIndex.getId(elt);
+		this.cssClass = StyleRuleIndex.getCSSClass(elt);
+
+		String[] pseudoClassNames = ruleIndex.getPseudoClasses();
+		this.pseudoClasses = new byte[pseudoClassNames.length];
+		if (elt instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) elt;
+			for (int i = 0; i < pseudoClassNames.length; i++) {
+				if (stylableElement.isPseudoInstanceOf(pseudoClassNames[i])) {
+					pseudoClasses[i] |= PSEUDO_INSTANCE;
+				}
+				if (stylableElement.isStaticPseudoInstance(pseudoClassNames[i])) {
+					pseudoClasses[i] |= STATIC_PSEUDO_INSTANCE;
+				}
+			}
+		}
+
+		String[] attributeNames = ruleIndex.getAttributeNames();
+		this.attributes = new String[attributeNames.length];
+		for (int i = 0; i < attributeNames.length; i++) {
+			if (elt.hasAttribute(attributeNames[i])) {
+				attributes[i] = elt.getAttribute(attributeNames[i]);
+			}
+		}
+
+		this.hashCode = Objects.hash(parent, name, namespaceURI, id, cssClass)
+				+ 31 * (Arrays.hashCode(pseudoClasses) + 31 * Arrays.hashCode(attributes));
+	}
+
+	StyleKey getParent() {
+		return parent;
+	}
+
+	boolean hasStyle(String pseudoElt) {
+		if (pseudoElt == null) {
+			return styleComputed;
+		}
+		return pseudoStyles != null && pseudoStyles.containsKey(pseudoElt);
+	}
+
+	CSSStyleDeclaration getStyle(String pseudoElt) {
+		if (pseudoElt == null) {
+			return style;
+		}
+		return pseudoStyles != null ? pseudoStyles.get(pseudoElt) : null;
+	}
+
+	void setStyle(String pseudoElt, CSSStyleDeclaration style) {
+		if (pseudoElt == null) {
+			this.style = style;
+			this.styleComputed = true;
+		} else {
+			if (pseudoStyles == null) {
+				pseudoStyles = new HashMap<>(4);
+			}
+			pseudoStyles.put(pseudoElt, style);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof StyleKey)) {
+			return false;
+		}
+		StyleKey other = (StyleKey) obj;
+		return hashCode == other.hashCode && parent == other.parent && Objects.equals(name, other.name)
+				&& Objects.equals(namespaceURI, other.namespaceURI) && Objects.equals(id, other.id)
+				&& Objects.equals(cssClass, other.cssClass) && Arrays.equals(pseudoClasses, other.pseudoClasses)
+				&& Arrays.equals(attributes, other.attributes);
+	}
+}
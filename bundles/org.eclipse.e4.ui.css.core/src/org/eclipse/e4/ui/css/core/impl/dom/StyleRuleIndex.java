@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSLangConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSPseudoClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.ElementSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+import org.w3c.dom.css.CSSValue;
+
+/**
+ * An index of the style rule selectors of a list of CSS rules, bucketed by the
+ * rightmost simple selector of each selector: its id, its class, its element
+ * name, or none of them (universal). Looking up the candidates for an element
+ * only returns the selectors which can possibly match it, in the order in
+ * which they are declared. The candidates still have to be matched against the
+ * element.
+ * <p>
+ * The index also records the pseudo classes and attributes tested by the
+ * selectors, which make up a {@link StyleKey}, and which selectors test the
+ * classes and ids of ancestors.
+ * </p>
+ */
+final class StyleRuleIndex {
+
+	/**
+	 * A selector of a style rule together with its position among all the
+	 * selectors of the indexed rules.
+	 */
+	static final class Entry {
+
+		private static final Comparator<Entry> ORDER = (e1, e2) -> Integer.compare(e1.order, e2.order);
+
+		final int order;
+		final ExtendedSelector selector;
+		final CSSStyleRule rule;
+
+		Entry(int order, ExtendedSelector selector, CSSStyleRule rule) {
+			this.order = order;
+			this.selector = selector;
+			this.rule = rule;
+		}
+	}
+
+	private static final String ID_PREFIX = "#"; //$NON-NLS-1$
+	private static final String CLASS_PREFIX = "."; //$NON-NLS-1$
+	private static final String UNIVERSAL_KEY = "*"; //$NON-NLS-1$
+	private static final String INHERIT = "inherit"; //$NON-NLS-1$
+	private static final Predicate<Element> ALL_ELEMENTS = elt -> true;
+
+	private final Map<String, List<Entry>> byId = new HashMap<>();
+	private final Map<String, List<Entry>> byClass = new HashMap<>();
+	private final Map<String, List<Entry>> byElementName = new HashMap<>();
+	private final List<Entry> universal = new ArrayList<>();
+
+	private final Set<String> pseudoClassSet = new LinkedHashSet<>();
+	private final Set<String> attributeNameSet = new LinkedHashSet<>();
+	private final String[] pseudoClasses;
+	private final String[] attributeNames;
+	/**
+	 * Whether the selectors only depend on the element and its ancestors,
+	 * through the conditions recorded in {@link StyleKey}.
+	 */
+	private boolean styleSharingSupported = true;
+
+	/**
+	 * The bucket keys of the selectors testing a class (<code>.class</code>) or
+	 * an id (<code>#id</code>) of an ancestor, by class or id.
+	 */
+	private final Map<String, Set<String>> ancestorDependents = new HashMap<>();
+	/**
+	 * Whether the styles of descendants only depend on the class and id of an
+	 * ancestor through {@link #ancestorDependents}.
+	 */
+	private boolean ancestorDependentsKnown = true;
+
+	StyleRuleIndex(List<CSSRule> ruleList) {
+		int order = 0;
+		for (CSSRule rule : ruleList) {
+			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
+			}
+			CSSStyleRule styleRule = (CSSStyleRule) rule;
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (selector instanceof ExtendedSelector) {
+					String bucketKey = getBucketKey(selector);
+					add(new Entry(order++, (ExtendedSelector) selector, styleRule), bucketKey);
+					Set<String> ancestorKeys = new HashSet<>();
+					collectDependencies(selector, false, ancestorKeys);
+					for (String ancestorKey : ancestorKeys) {
+						ancestorDependents.computeIfAbsent(ancestorKey, k -> new HashSet<>()).add(bucketKey);
+					}
+				}
+			}
+			if (ancestorDependentsKnown && inheritsValues(styleRule.getStyle())) {
+				// inherited values depend on whatever was applied to the parent
+				ancestorDependentsKnown = false;
+			}
+		}
+		pseudoClasses = pseudoClassSet.toArray(new String[pseudoClassSet.size()]);
+		attributeNames = attributeNameSet.toArray(new String[attributeNameSet.size()]);
+	}
+
+	private static boolean inheritsValues(CSSStyleDeclaration style) {
+		if (style == null) {
+			return false;
+		}
+		int length = style.getLength();
+		for (int i = 0; i < length; i++) {
+			CSSValue value = style.getPropertyCSSValue(style.item(i));
+			if (value != null && INHERIT.equals(value.getCssText())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void collectDependencies(Selector selector, boolean ancestor, Set<String> ancestorKeys) {
+		if (selector instanceof ConditionalSelector) {
+			collectDependencies(((ConditionalSelector) selector).getSimpleSelector(), ancestor, ancestorKeys);
+			collectDependencies(((ConditionalSelector) selector).getCondition(), ancestor, ancestorKeys);
+		} else if (selector instanceof DescendantSelector) {
+			collectDependencies(((DescendantSelector) selector).getAncestorSelector(), true, ancestorKeys);
+			collectDependencies(((DescendantSelector) selector).getSimpleSelector(), ancestor, ancestorKeys);
+		} else if (selector instanceof SiblingSelector) {
+			// siblings are neither part of the style key nor descendants
+			styleSharingSupported = false;
+			ancestorDependentsKnown = false;
+		}
+	}
+
+	private void collectDependencies(Condition condition, boolean ancestor, Set<String> ancestorKeys) {
+		if (condition instanceof CombinatorCondition) {
+			collectDependencies(((CombinatorCondition) condition).getFirstCondition(), ancestor, ancestorKeys);
+			collectDependencies(((CombinatorCondition) condition).getSecondCondition(), ancestor, ancestorKeys);
+		} else if (condition instanceof CSSIdConditionImpl) {
+			if (ancestor) {
+				ancestorKeys.add(ID_PREFIX + ((CSSIdConditionImpl) condition).getValue());
+			}
+		} else if (condition instanceof CSSClassConditionImpl) {
+			if (ancestor) {
+				ancestorKeys.add(CLASS_PREFIX + ((CSSClassConditionImpl) condition).getValue());
+			}
+		} else if (condition instanceof CSSPseudoClassConditionImpl) {
+			pseudoClassSet.add(((CSSPseudoClassConditionImpl) condition).getValue());
+		} else if (condition instanceof CSSLangConditionImpl) {
+			attributeNameSet.add("lang"); //$NON-NLS-1$
+		} else if (condition instanceof AttributeCondition
+				&& ((AttributeCondition) condition).getLocalName() != null) {
+			String name = ((AttributeCondition) condition).getLocalName();
+			attributeNameSet.add(name);
+			if (ancestor && ("class".equals(name) || "id".equals(name))) { //$NON-NLS-1$ //$NON-NLS-2$
+				ancestorDependentsKnown = false;
+			}
+		} else {
+			styleSharingSupported = false;
+			ancestorDependentsKnown = false;
+		}
+	}
+
+	/**
+	 * Returns whether elements with equal {@link StyleKey}s are guaranteed to
+	 * be matched by the same selectors.
+	 */
+	boolean isStyleSharingSupported() {
+		return styleSharingSupported;
+	}
+
+	String[] getPseudoClasses() {
+		return pseudoClasses;
+	}
+
+	String[] getAttributeNames() {
+		return attributeNames;
+	}
+
+	/**
+	 * Returns a filter for the descendants of an element whose styles may
+	 * change when the given classes and ids of the element are added or
+	 * removed.
+	 *
+	 * @param classes
+	 *            the added and removed classes
+	 * @param ids
+	 *            the old and new ids
+	 * @return the filter, or <code>null</code> if no descendant is affected
+	 */
+	Predicate<Element> getAffectedDescendants(Collection<String> classes, Collection<String> ids) {
+		if (!ancestorDependentsKnown) {
+			return ALL_ELEMENTS;
+		}
+		Set<String> bucketKeys = new HashSet<>();
+		for (String cssClass : classes) {
+			bucketKeys.addAll(ancestorDependents.getOrDefault(CLASS_PREFIX + cssClass, Collections.emptySet()));
+		}
+		for (String id : ids) {
+			bucketKeys.addAll(ancestorDependents.getOrDefault(ID_PREFIX + id, Collections.emptySet()));
+		}
+		if (bucketKeys.isEmpty()) {
+			return null;
+		}
+		if (bucketKeys.contains(UNIVERSAL_KEY)) {
+			return ALL_ELEMENTS;
+		}
+		return elt -> {
+			String name = getName(elt);
+			if (name != null && bucketKeys.contains(name)) {
+				return true;
+			}
+			String id = getId(elt);
+			if (id != null && bucketKeys.contains(ID_PREFIX + id)) {
+				return true;
+			}
+			for (String cssClass : getClasses(getCSSClass(elt))) {
+				if (bucketKeys.contains(CLASS_PREFIX + cssClass)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private void add(Entry entry, String bucketKey) {
+		if (bucketKey.startsWith(ID_PREFIX)) {
+			byId.computeIfAbsent(bucketKey.substring(1), k -> new ArrayList<>()).add(entry);
+		} else if (bucketKey.startsWith(CLASS_PREFIX)) {
+			byClass.computeIfAbsent(bucketKey.substring(1), k -> new ArrayList<>()).add(entry);
+		} else if (!UNIVERSAL_KEY.equals(bucketKey)) {
+			byElementName.computeIfAbsent(bucketKey, k -> new ArrayList<>()).add(entry);
+		} else {
+			universal.add(entry);
+		}
+	}
+
+	/**
+	 * Returns the key of the bucket of a selector: <code>#id</code>,
+	 * <code>.class</code> or the element name required by its rightmost simple
+	 * selector, or {@link #UNIVERSAL_KEY}.
+	 */
+	private static String getBucketKey(Selector selector) {
+		Selector rightmost = getRightmostSelector(selector);
+		if (rightmost instanceof ConditionalSelector) {
+			Condition condition = ((ConditionalSelector) rightmost).getCondition();
+			AttributeCondition id = findCondition(condition, CSSIdConditionImpl.class);
+			if (id != null && id.getValue() != null) {
+				return ID_PREFIX + id.getValue();
+			}
+			AttributeCondition cssClass = findCondition(condition, CSSClassConditionImpl.class);
+			if (cssClass != null && cssClass.getValue() != null) {
+				return CLASS_PREFIX + cssClass.getValue();
+			}
+			rightmost = ((ConditionalSelector) rightmost).getSimpleSelector();
+		}
+		if (rightmost != null && rightmost.getSelectorType() == Selector.SAC_ELEMENT_NODE_SELECTOR) {
+			String name = ((ElementSelector) rightmost).getLocalName();
+			if (name != null) {
+				return name;
+			}
+		}
+		return UNIVERSAL_KEY;
+	}
+
+	/**
+	 * Returns the selector which has to match the element itself, that is the
+	 * selector on the right of all the descendant, child and sibling
+	 * combinators.
+	 */
+	private static Selector getRightmostSelector(Selector selector) {
+		Selector current = selector;
+		while (true) {
+			if (current instanceof DescendantSelector) {
+				current = ((DescendantSelector) current).getSimpleSelector();
+			} else if (current instanceof SiblingSelector) {
+				current = ((SiblingSelector) current).getSiblingSelector();
+			} else {
+				return current;
+			}
+		}
+	}
+
+	private static AttributeCondition findCondition(Condition condition,
+			Class<? extends AttributeCondition> type) {
+		if (type.isInstance(condition)) {
+			return (AttributeCondition) condition;
+		}
+		if (condition != null && condition.getConditionType() == Condition.SAC_AND_CONDITION) {
+			CombinatorCondition and = (CombinatorCondition) condition;
+			AttributeCondition found = findCondition(and.getFirstCondition(), type);
+			return found != null ? found : findCondition(and.getSecondCondition(), type);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the selectors which may match the given element, in declaration
+	 * order.
+	 */
+	List<Entry> getCandidates(Element elt) {
+		List<List<Entry>> buckets = new ArrayList<>(4);
+		addBucket(buckets, universal);
+
+		String name = getName(elt);
+		if (name != null) {
+			addBucket(buckets, byElementName.get(name));
+		}
+		String id = getId(elt);
+		if (id != null && !byId.isEmpty()) {
+			addBucket(buckets, byId.get(id));
+		}
+		if (!byClass.isEmpty()) {
+			for (String cssClass : getClasses(getCSSClass(elt))) {
+				addBucket(buckets, byClass.get(cssClass));
+			}
+		}
+
+		if (buckets.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (buckets.size() == 1) {
+			return buckets.get(0);
+		}
+		List<Entry> candidates = new ArrayList<>();
+		for (List<Entry> bucket : buckets) {
+			candidates.addAll(bucket);
+		}
+		candidates.sort(Entry.ORDER);
+		return candidates;
+	}
+
+	private static void addBucket(List<List<Entry>> buckets, List<Entry> bucket) {
+		if (bucket != null && !bucket.isEmpty()) {
+			buckets.add(bucket);
+		}
+	}
+
+	/**
+	 * Returns the name of an element as tested by element selectors.
+	 */
+	static String getName(Element elt) {
+		return elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+	}
+
+	/**
+	 * Returns the id of an element as tested by id conditions.
+	 */
+	static String getId(Element elt) {
+		if (elt instanceof CSSStylableElement) {
+			return ((CSSStylableElement) elt).getCSSId();
+		}
+		return elt.getAttribute("id"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the class attribute of an element as tested by class conditions.
+	 */
+	static String getCSSClass(Element elt) {
+		if (elt instanceof CSSStylableElement) {
+			return ((CSSStylableElement) elt).getCSSClass();
+		}
+		return elt.getAttribute("class"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the space separated classes of a class attribute, using the same
+	 * notion of space as {@link CSSClassConditionImpl}.
+	 */
+	static Set<String> getClasses(String cssClass) {
+		if (cssClass == null || cssClass.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> classes = new LinkedHashSet<>();
+		int length = cssClass.length();
+		int start = 0;
+		for (int i = 0; i <= length; i++) {
+			if (i == length || Character.isSpaceChar(cssClass.charAt(i))) {
+				if (i > start) {
+					classes.add(cssClass.substring(start, i));
+				}
+				start = i + 1;
+			}
+		}
+		return classes;
+	}
+}
@@ -18,18 +18,22 @@
 package org.eclipse.e4.ui.css.core.impl.dom;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
 import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
-import org.w3c.css.sac.Selector;
-import org.w3c.css.sac.SelectorList;
+import org.eclipse.e4.ui.internal.css.core.Activator;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.css.CSSRule;
 import org.w3c.dom.css.CSSRuleList;
 import org.w3c.dom.css.CSSStyleDeclaration;
-import org.w3c.dom.css.CSSStyleRule;
 import org.w3c.dom.css.CSSStyleSheet;
 import org.w3c.dom.css.DocumentCSS;
 import org.w3c.dom.css.ViewCSS;
@@ -43,10 +47,28 @@ import org.w3c.dom.views.DocumentView;
  */
 public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChangeListener {
 
+	/** Upper bound of the style keys kept between styling passes */
+	private static final int MAX_STYLE_KEYS = 4096;
+
 	protected DocumentCSS documentCSS;
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Cached index of the selectors of {@link #currentCombinedRules} */
+	private StyleRuleIndex currentRuleIndex;
+	/**
+	 * Ancestors of the last element styled in the current styling pass, shared
+	 * with its siblings
+	 */
+	private Node[] lastHierarchy;
+	/** Canonical style keys, holding the styles computed for them */
+	private final Map<StyleKey, StyleKey> styleKeys = new HashMap<>();
+	/** Style keys of the elements styled in the current styling pass */
+	private final Map<Node, StyleKey> passStyleKeys = new IdentityHashMap<>();
+	private int stylingDepth;
+	private int sharedStyleCount;
+	private int computedStyleCount;
+	private long stylingStart;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -73,7 +95,161 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
-		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
+		StyleRuleIndex ruleIndex = getRuleIndex();
+		if (stylingDepth > 0 && ruleCachingEnabled && ruleIndex.isStyleSharingSupported()) {
+			StyleKey key = getStyleKey(ruleIndex, elt, true);
+			if (key != null) {
+				if (key.hasStyle(pseudoElt)) {
+					sharedStyleCount++;
+					return key.getStyle(pseudoElt);
+				}
+				CSSStyleDeclaration style = getComputedStyle(ruleIndex, elt, pseudoElt);
+				key.setStyle(pseudoElt, style);
+				computedStyleCount++;
+				return style;
+			}
+		}
+		return getComputedStyle(ruleIndex, elt, pseudoElt);
+	}
+
+	/**
+	 * Returns a filter for the descendants of an element whose styles may
+	 * change when the CSS class or id of the element changes, because a
+	 * selector tests an added or removed class, or the old or new id, on
+	 * their ancestors.
+	 *
+	 * @param oldCSSClass
+	 *            the CSS class before the change
+	 * @param newCSSClass
+	 *            the CSS class after the change
+	 * @param oldCSSId
+	 *            the CSS id before the change
+	 * @param newCSSId
+	 *            the CSS id after the change
+	 * @return the filter, or <code>null</code> if the change does not affect
+	 *         any descendant
+	 */
+	public Predicate<Element> getAffectedDescendants(String oldCSSClass, String newCSSClass, String oldCSSId,
+			String newCSSId) {
+		Set<String> oldClasses = StyleRuleIndex.getClasses(oldCSSClass);
+		Set<String> newClasses = StyleRuleIndex.getClasses(newCSSClass);
+		Set<String> unchangedClasses = new HashSet<>(oldClasses);
+		unchangedClasses.retainAll(newClasses);
+		Set<String> changedClasses = new HashSet<>(oldClasses);
+		changedClasses.addAll(newClasses);
+		changedClasses.removeAll(unchangedClasses);
+		Set<String> changedIds = new HashSet<>();
+		if (!Objects.equals(oldCSSId, newCSSId)) {
+			if (oldCSSId != null) {
+				changedIds.add(oldCSSId);
+			}
+			if (newCSSId != null) {
+				changedIds.add(newCSSId);
+			}
+		}
+		return getRuleIndex().getAffectedDescendants(changedClasses, changedIds);
+	}
+
+	/**
+	 * Starts a styling pass. Until the matching {@link #endStyling()}, the
+	 * element tree is assumed not to change except for the elements being
+	 * styled, and elements matching the same selectors share their computed
+	 * style. Styling passes may be nested.
+	 */
+	public void beginStyling() {
+		if (stylingDepth++ == 0) {
+			sharedStyleCount = 0;
+			computedStyleCount = 0;
+			stylingStart = Activator.DEBUG_STYLE_SHARING ? System.nanoTime() : 0;
+		}
+	}
+
+	/**
+	 * Ends a styling pass started with {@link #beginStyling()}.
+	 */
+	public void endStyling() {
+		if (--stylingDepth == 0) {
+			passStyleKeys.clear();
+			// do not keep the elements, and their widgets, beyond the pass
+			lastHierarchy = null;
+			if (stylingStart != 0 && sharedStyleCount + computedStyleCount > 0) {
+				Activator.trace(Activator.DEBUG_STYLE_SHARING_FLAG,
+						"styling took " + (System.nanoTime() - stylingStart) / 1000000 + " ms, " //$NON-NLS-1$ //$NON-NLS-2$
+								+ sharedStyleCount + " shared styles, " + computedStyleCount + " computed styles, " //$NON-NLS-1$ //$NON-NLS-2$
+								+ styleKeys.size() + " style keys", //$NON-NLS-1$
+						null);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of computed styles reused from another element in
+	 *         the current or last styling pass
+	 */
+	public int getSharedStyleCount() {
+		return sharedStyleCount;
+	}
+
+	/**
+	 * @return the number of computed styles calculated in the current or last
+	 *         styling pass
+	 */
+	public int getComputedStyleCount() {
+		return computedStyleCount;
+	}
+
+	/**
+	 * Returns the canonical style key of an element, or <code>null</code> if
+	 * its style cannot be shared. The key of the element itself is always
+	 * recomputed as it may have changed since it was last styled, the keys of
+	 * its ancestors are reused within a styling pass as long as they were
+	 * computed for the current key of their parent, which changes when an
+	 * ancestor is styled again, e.g. in a nested pass, or the element is moved.
+	 */
+	private StyleKey getStyleKey(StyleRuleIndex ruleIndex, Element elt, boolean recompute) {
+		Node parent = elt.getParentNode();
+		StyleKey parentKey = null;
+		if (parent != null) {
+			if (!(parent instanceof Element)) {
+				return null;
+			}
+			parentKey = getStyleKey(ruleIndex, (Element) parent, false);
+			if (parentKey == null) {
+				return null;
+			}
+		}
+		StyleKey key = recompute ? null : passStyleKeys.get(elt);
+		if (key != null && key.getParent() == parentKey) {
+			return key;
+		}
+		key = new StyleKey(elt, parentKey, ruleIndex);
+		StyleKey canonicalKey = styleKeys.get(key);
+		if (canonicalKey == null) {
+			if (styleKeys.size() >= MAX_STYLE_KEYS) {
+				styleKeys.clear();
+			}
+			styleKeys.put(key, key);
+			canonicalKey = key;
+		}
+		passStyleKeys.put(elt, canonicalKey);
+		return canonicalKey;
+	}
+
+	/**
+	 * Retrieves the index of the selectors of the combined CSS rules. Like the
+	 * combined rules, the index is cached until the stylesheets change.
+	 *
+	 * @return selector index for all style sheets
+	 */
+	private StyleRuleIndex getRuleIndex() {
+		if (this.ruleCachingEnabled && this.currentRuleIndex != null) {
+			return this.currentRuleIndex;
+		}
+		StyleRuleIndex ruleIndex = new StyleRuleIndex(getCombinedRules());
+		if (this.ruleCachingEnabled) {
+			this.currentRuleIndex = ruleIndex;
+		}
+		return ruleIndex;
 	}
 
 	/**
@@ -111,50 +287,28 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
-		Node parent = elt.getParentNode();
-
-		Node[] hierarchy = null;
-		if (parent != null) {
-			List<Node> hierarchyList = new ArrayList<>();
-			for (Node n = parent; n != null; n = n.getParentNode()) {
-				hierarchyList.add(n);
-			}
-			hierarchy = hierarchyList.toArray(new Node[hierarchyList.size()]);
-		}
+	private CSSStyleDeclaration getComputedStyle(StyleRuleIndex ruleIndex, Element elt, String pseudoElt) {
+		Node[] hierarchy = getHierarchy(elt.getParentNode());
 
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
 		int position = 0;
-		for (CSSRule rule : ruleList) {
-			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule)) ) {
-				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
-			}
-			CSSStyleRule styleRule = (CSSStyleRule) rule;
-			ExtendedCSSRule r = (ExtendedCSSRule) rule;
-			SelectorList selectorList = r.getSelectorList();
-			// Loop for SelectorList
-			int l = selectorList.getLength();
-			for (int j = 0; j < l; j++) {
-				Selector selector = selectorList.item(j);
-				if (selector instanceof ExtendedSelector) {
-					ExtendedSelector extendedSelector = (ExtendedSelector) selector;
-					if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
-						CSSStyleDeclaration style = styleRule.getStyle();
-						int specificity = extendedSelector.getSpecificity();
-						StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
-						if (firstStyleDeclaration == null) {
-							firstStyleDeclaration = wrapper;
-						} else {
-							// There is several Style Declarations which
-							// match the current element
-							if (styleDeclarations == null) {
-								styleDeclarations = new ArrayList<>();
-								styleDeclarations.add(firstStyleDeclaration);
-							}
-							styleDeclarations.add(wrapper);
-						}
+		for (StyleRuleIndex.Entry candidate : ruleIndex.getCandidates(elt)) {
+			ExtendedSelector extendedSelector = candidate.selector;
+			if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
+				CSSStyleDeclaration style = candidate.rule.getStyle();
+				int specificity = extendedSelector.getSpecificity();
+				StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					// There is several Style Declarations which
+					// match the current element
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
 					}
+					styleDeclarations.add(wrapper);
 				}
 			}
 		}
@@ -169,13 +323,54 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return null;
 	}
 
+	/**
+	 * Returns the ancestors of an element, starting with the given parent.
+	 * Within a styling pass, the array computed for the previous element is
+	 * reused as long as it still describes the ancestors of the parent, which
+	 * is the case for siblings styled one after the other.
+	 */
+	private Node[] getHierarchy(Node parent) {
+		if (parent == null) {
+			return null;
+		}
+		Node[] hierarchy = lastHierarchy;
+		if (hierarchy != null && hierarchy[0] == parent && isHierarchy(hierarchy, parent)) {
+			return hierarchy;
+		}
+		List<Node> hierarchyList = new ArrayList<>();
+		for (Node n = parent; n != null; n = n.getParentNode()) {
+			hierarchyList.add(n);
+		}
+		hierarchy = hierarchyList.toArray(new Node[hierarchyList.size()]);
+		if (stylingDepth > 0) {
+			lastHierarchy = hierarchy;
+		}
+		return hierarchy;
+	}
+
+	private static boolean isHierarchy(Node[] hierarchy, Node parent) {
+		int i = 0;
+		for (Node n = parent; n != null; n = n.getParentNode()) {
+			if (i == hierarchy.length || hierarchy[i++] != n) {
+				return false;
+			}
+		}
+		return i == hierarchy.length;
+	}
+
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
+		styleKeys.clear();
+		passStyleKeys.clear();
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
+		styleKeys.clear();
+		passStyleKeys.clear();
 	}
 }
@@ -35,7 +35,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
@@ -50,6 +52,7 @@ import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandler;
 import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandler2;
 import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandler2Delegate;
 import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandlerProvider;
+import org.eclipse.e4.ui.css.core.dom.properties.css2.CSS2FontProperties;
 import org.eclipse.e4.ui.css.core.dom.properties.converters.ICSSValueConverter;
 import org.eclipse.e4.ui.css.core.engine.CSSElementContext;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
@@ -118,7 +121,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	/**
 	 * w3c {@link ViewCSS}.
 	 */
-	private ViewCSS viewCSS;
+	private ViewCSSImpl viewCSS;
 
 	/**
 	 * {@link IElementProvider} used to retrieve w3c Element linked to the
@@ -156,6 +159,24 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	private ResourceRegistryKeyFactory keyFactory;
 
+	/**
+	 * The resource registry keys of the parsed CSS values, which are shared by
+	 * all the elements they apply to.
+	 */
+	private final Map<CSSValue, Object> resourceKeys = new WeakHashMap<>();
+
+	private static final Object NO_KEY = new Object();
+
+	private int resourceKeyCount;
+
+	/**
+	 * The number of nested calls to
+	 * {@link #applyStyles(Object, boolean, boolean)}.
+	 */
+	private int stylingDepth;
+
+	private int convertedResourceCount;
+
 	public AbstractCSSEngine() {
 		this(new DocumentCSSImpl());
 	}
@@ -187,7 +208,9 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		// Check that CharacterStream or ByteStream is not null
 		checkInputSource(source);
 		CSSParser parser = makeCSSParser();
-		CSSStyleSheet styleSheet = parser.parseStyleSheet(source);
+		// style sheets loaded from a URI are shared by the engines
+		CSSStyleSheet styleSheet = source.getURI() != null ? StyleSheetCache.parseStyleSheet(parser, source)
+				: parser.parseStyleSheet(source);
 
 		CSSRuleList rules = styleSheet.getCssRules();
 		int length = rules.getLength();
@@ -376,6 +399,22 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			return;
 		}
 
+		Object jfrEvent = stylingDepth == 0 ? CSSStylingRecorder.begin() : null;
+		stylingDepth++;
+		// elements matching the same selectors share their computed style
+		// while a tree of elements is styled
+		viewCSS.beginStyling();
+		try {
+			applyStyles(element, elt, applyStylesToChildNodes, computeDefaultStyle);
+		} finally {
+			viewCSS.endStyling();
+			stylingDepth--;
+			CSSStylingRecorder.commit(jfrEvent, element, applyStylesToChildNodes);
+		}
+	}
+
+	private void applyStyles(Object element, Element elt, boolean applyStylesToChildNodes,
+			boolean computeDefaultStyle) {
 		/*
 		 * Compute new Style to apply.
 		 */
@@ -441,6 +480,61 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		}
 	}
 
+	/**
+	 * Applies styles to an element after its CSS class or id changed. Unlike
+	 * {@link #applyStyles(Object, boolean)} on the whole subtree, descendants
+	 * are only restyled if a selector testing the added or removed classes, or
+	 * the old or new id, of an ancestor may match them.
+	 *
+	 * @param element
+	 *            the element or widget whose CSS class or id changed
+	 * @param oldCSSClass
+	 *            the CSS class before the change
+	 * @param oldCSSId
+	 *            the CSS id before the change
+	 */
+	public void applyStylesAfterChange(Object element, String oldCSSClass, String oldCSSId) {
+		Element elt = getElement(element);
+		if (elt == null || !isVisible(elt)) {
+			return;
+		}
+		if (!(elt instanceof CSSStylableElement) || (oldCSSClass == null && oldCSSId == null)) {
+			// first styling of the subtree
+			applyStyles(element, true);
+			return;
+		}
+
+		CSSStylableElement stylableElement = (CSSStylableElement) elt;
+		Predicate<Element> affectedDescendants = viewCSS.getAffectedDescendants(oldCSSClass,
+				stylableElement.getCSSClass(), oldCSSId, stylableElement.getCSSId());
+		viewCSS.beginStyling();
+		try {
+			applyStyles(element, false);
+			if (affectedDescendants != null) {
+				applyStylesToDescendants(elt, affectedDescendants);
+			}
+		} finally {
+			viewCSS.endStyling();
+		}
+	}
+
+	private void applyStylesToDescendants(Element elt, Predicate<Element> affectedDescendants) {
+		NodeList nodes = elt instanceof ChildVisibilityAwareElement
+				? ((ChildVisibilityAwareElement) elt).getVisibleChildNodes()
+				: elt.getChildNodes();
+		if (nodes != null) {
+			processNodeList(nodes, (child, applyStylesToChildNodes) -> {
+				if (child instanceof Element) {
+					if (affectedDescendants.test((Element) child)) {
+						applyStyles(child, false);
+					}
+					applyStylesToDescendants((Element) child, affectedDescendants);
+				}
+			}, true);
+			onStylesAppliedToChildNodes(elt, nodes);
+		}
+	}
+
 	/**
 	 * Allow the CSS engine to skip particular elements if they are not visible.
 	 * Elements need to be restyled when they become visible.
@@ -1065,13 +1159,14 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		if ("unset".equals(value.getCssText())) {
 			return null;
 		}
-		Object key = keyFactory.createKey(value);
+		Object key = getResourceKey(value);
 		Object newValue = getResource(toType, key);
 
 		if (newValue == null) {
 			ICSSValueConverter converter = getCSSValueConverter(toType);
 			if (converter != null) {
 				newValue = converter.convert(value, this, context);
+				convertedResourceCount++;
 				// cache it
 				registerResource(toType, key, newValue);
 			}
@@ -1079,6 +1174,37 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		return newValue;
 	}
 
+	private Object getResourceKey(CSSValue value) {
+		if (value instanceof CSS2FontProperties) {
+			// font properties are computed for each element
+			resourceKeyCount++;
+			return keyFactory.createKey(value);
+		}
+		Object key = resourceKeys.get(value);
+		if (key == null) {
+			resourceKeyCount++;
+			key = keyFactory.createKey(value);
+			resourceKeys.put(value, key != null ? key : NO_KEY);
+		}
+		return key != NO_KEY ? key : null;
+	}
+
+	/**
+	 * Returns the number of resource registry keys created for the converted
+	 * CSS values. The keys of the parsed values are created only once.
+	 */
+	public int getResourceKeyCount() {
+		return resourceKeyCount;
+	}
+
+	/**
+	 * Returns the number of CSS values converted into resources because the
+	 * resource was not found in the resource registry.
+	 */
+	public int getConvertedResourceCount() {
+		return convertedResourceCount;
+	}
+
 	private Object getResource(Object toType, Object key) {
 		if (key != null && getResourcesRegistry() != null) {
 			return getResourcesRegistry().getResource(toType, key);
@@ -1114,5 +1240,6 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	protected void setResourceRegistryKeyFactory(ResourceRegistryKeyFactory keyFactory) {
 		this.keyFactory = keyFactory;
+		resourceKeys.clear();
 	}
 }
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning the styling of an element, and possibly its
+ * descendants, by {@link AbstractCSSEngine#applyStyles(Object, boolean, boolean)}.
+ * Only the outermost styling is recorded, the styling of the descendants being
+ * part of it.
+ */
+@Name("org.eclipse.e4.ui.css.Styling")
+@Label("CSS Styling")
+@Category({ "Eclipse", "CSS" })
+@Description("Application of the style sheets to an element")
+@StackTrace(false)
+public final class CSSStylingEvent extends Event {
+	@Label("Element Class")
+	@Description("Class of the styled widget or object")
+	String elementClass;
+
+	@Label("Including Children")
+	boolean children;
+}
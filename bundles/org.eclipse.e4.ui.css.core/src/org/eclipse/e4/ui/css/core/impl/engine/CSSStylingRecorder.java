@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+/**
+ * Records the {@link CSSStylingEvent}s of the {@link AbstractCSSEngine}. The
+ * flight recorder API is imported optionally, so the event is only used if the
+ * API can be loaded by this bundle. The events are passed around as objects so
+ * that the callers do not refer to the event class.
+ */
+final class CSSStylingRecorder {
+
+	private static volatile boolean enabled = isFlightRecorderWired();
+
+	private CSSStylingRecorder() {
+	}
+
+	/**
+	 * Begins the event of the styling of an element.
+	 *
+	 * @return the event, or <code>null</code> if the flight recorder is not
+	 *         available
+	 */
+	static Object begin() {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			CSSStylingEvent event = new CSSStylingEvent();
+			event.begin();
+			return event;
+		} catch (LinkageError e) {
+			enabled = false;
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the event of the styling of an element, and commits it if a
+	 * recording includes it.
+	 *
+	 * @param event    the event returned by {@link #begin()}, or
+	 *                 <code>null</code>
+	 * @param element  the styled element or widget
+	 * @param children whether the descendants were styled too
+	 */
+	static void commit(Object event, Object element, boolean children) {
+		if (event == null) {
+			return;
+		}
+		CSSStylingEvent jfrEvent = (CSSStylingEvent) event;
+		jfrEvent.end();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.elementClass = element.getClass().getName();
+			jfrEvent.children = children;
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, CSSStylingRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.e4.ui.css.core.dom.parsers.CSSParser;
+import org.w3c.css.sac.InputSource;
+import org.w3c.dom.css.CSSStyleSheet;
+
+/**
+ * A cache of the style sheets parsed from a URI, shared by all the CSS
+ * engines. Themes parse the same style sheets again for every engine and
+ * every theme switch; a style sheet is only parsed again when its content
+ * changed, which is detected with a digest of the content.
+ * <p>
+ * The parsed style sheets cannot be persisted, so the cache only helps once a
+ * style sheet was parsed in this session, not at startup. It keeps the
+ * {@value #MAX_ENTRIES} most recently used style sheets, which covers the
+ * style sheets of a couple of themes.
+ * </p>
+ * <p>
+ * The cached style sheets are not modified by the engines, their
+ * <code>@import</code> rules are resolved each time the style sheet is used
+ * and the imported style sheets are cached on their own.
+ * </p>
+ */
+public final class StyleSheetCache {
+
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+	static final int MAX_ENTRIES = 64;
+
+	private static final class Entry {
+
+		final byte[] digest;
+		final CSSStyleSheet styleSheet;
+
+		Entry(byte[] digest, CSSStyleSheet styleSheet) {
+			this.digest = digest;
+			this.styleSheet = styleSheet;
+		}
+	}
+
+	private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private StyleSheetCache() {
+	}
+
+	/**
+	 * Removes all the cached style sheets.
+	 */
+	public static void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the style sheet parsed from the given source, parsing it with
+	 * the given parser unless the same content was already parsed from the
+	 * same URI by a parser of the same type.
+	 *
+	 * @param parser
+	 *            the parser to use if the style sheet is not cached
+	 * @param source
+	 *            the source, which must have a URI
+	 * @return the parsed style sheet
+	 */
+	static CSSStyleSheet parseStyleSheet(CSSParser parser, InputSource source) throws IOException {
+		MessageDigest messageDigest;
+		try {
+			messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			return parser.parseStyleSheet(source);
+		}
+
+		InputSource contentSource = new InputSource(source.getURI());
+		contentSource.setEncoding(source.getEncoding());
+		contentSource.setMedia(source.getMedia());
+		contentSource.setTitle(source.getTitle());
+		Reader reader = source.getCharacterStream();
+		if (reader != null) {
+			String content = readContent(reader);
+			messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+			contentSource.setCharacterStream(new StringReader(content));
+		} else {
+			byte[] content = source.getByteStream().readAllBytes();
+			messageDigest.update(content);
+			contentSource.setByteStream(new ByteArrayInputStream(content));
+		}
+		byte[] digest = messageDigest.digest();
+
+		String key = parser.getClass().getName() + '|' + source.getEncoding() + '|' + source.getURI();
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry != null && Arrays.equals(entry.digest, digest)) {
+			return entry.styleSheet;
+		}
+		CSSStyleSheet styleSheet = parser.parseStyleSheet(contentSource);
+		synchronized (entries) {
+			entries.put(key, new Entry(digest, styleSheet));
+		}
+		return styleSheet;
+	}
+
+	private static String readContent(Reader reader) throws IOException {
+		StringWriter writer = new StringWriter();
+		reader.transferTo(writer);
+		return writer.toString();
+	}
+}
@@ -74,18 +74,16 @@ public abstract class AbstractResourcesRegistry implements IResourcesRegistry {
 		if (resourcesMap == null) {
 			return;
 		}
-		Object resource = resourcesMap.get(key);
-		if (resource != null) {
-			resourcesMap.remove(resource);
-		}
+		resourcesMap.remove(key);
 	}
 
 	public void unregisterResource(Object resource) {
 		Object type = getResourceType(resource);
-		if (type != null) {
+		if (type != null && allResourcesMap != null) {
 			Map<Object, Object> resourcesMap = allResourcesMap.get(type);
 			if (resourcesMap != null) {
-				resourcesMap.remove(resource);
+				// the resources are stored by key, not by themselves
+				resourcesMap.values().removeIf(r -> r == resource);
 			}
 		}
 	}
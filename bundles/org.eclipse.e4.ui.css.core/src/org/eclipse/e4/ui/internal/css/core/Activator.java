@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.css.core;
+
+import java.util.Hashtable;
+import org.eclipse.osgi.service.debug.DebugOptions;
+import org.eclipse.osgi.service.debug.DebugOptionsListener;
+import org.eclipse.osgi.service.debug.DebugTrace;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+/**
+ * BundleActivator listening to the debug options of the bundle.
+ */
+public class Activator implements BundleActivator, DebugOptionsListener {
+	/**
+	 * The bundle symbolic name.
+	 */
+	public static final String PI_CSS_CORE = "org.eclipse.e4.ui.css.core"; //$NON-NLS-1$
+
+	public static final String DEBUG_STYLE_SHARING_FLAG = "/debug/styleSharing"; //$NON-NLS-1$
+
+	/**
+	 * Whether to trace the time spent styling and how many computed styles
+	 * were shared.
+	 */
+	public static boolean DEBUG_STYLE_SHARING = false;
+
+	private static DebugTrace trace;
+
+	@Override
+	public void start(BundleContext context) throws Exception {
+		Hashtable<String, String> props = new Hashtable<>(2);
+		props.put(DebugOptions.LISTENER_SYMBOLICNAME, PI_CSS_CORE);
+		context.registerService(DebugOptionsListener.class, this, props);
+	}
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		DEBUG_STYLE_SHARING = false;
+		trace = null;
+	}
+
+	@Override
+	public void optionsChanged(DebugOptions options) {
+		trace = options.newDebugTrace(PI_CSS_CORE);
+		DEBUG_STYLE_SHARING = options.getBooleanOption(PI_CSS_CORE + DEBUG_STYLE_SHARING_FLAG, false);
+	}
+
+	public static void trace(String option, String msg, Throwable error) {
+		DebugTrace debugTrace = trace;
+		if (debugTrace != null) {
+			debugTrace.trace(option, msg, error);
+		}
+	}
+}
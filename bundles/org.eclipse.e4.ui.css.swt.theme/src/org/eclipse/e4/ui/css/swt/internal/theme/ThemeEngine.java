@@ -44,6 +44,7 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.e4.ui.css.core.engine.CSSElementContext;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
 import org.eclipse.e4.ui.css.core.util.impl.resources.FileResourcesLocatorImpl;
 import org.eclipse.e4.ui.css.core.util.impl.resources.OSGiResourceLocator;
 import org.eclipse.e4.ui.css.core.util.resources.IResourceLocator;
@@ -556,6 +557,20 @@ public class ThemeEngine implements IThemeEngine {
 		}
 	}
 
+	@Override
+	public void applyStylesAfterChange(Object widget, String oldCSSClass, String oldCSSId) {
+		for (CSSEngine engine : cssEngines) {
+			if (engine instanceof AbstractCSSEngine) {
+				((AbstractCSSEngine) engine).applyStylesAfterChange(widget, oldCSSClass, oldCSSId);
+			} else {
+				Element element = engine.getElement(widget);
+				if (element != null) {
+					engine.applyStyles(element, true);
+				}
+			}
+		}
+	}
+
 	private String getPreferenceThemeId() {
 		return getPreferences().get(THEMEID_KEY, null);
 	}
@@ -155,6 +155,21 @@ public interface IThemeEngine {
 	 */
 	void applyStyles(Object widget, boolean applyStylesToChildNodes);
 
+	/**
+	 * Reapply the style to a widget after its CSS class or id changed, and to
+	 * the children whose style may depend on the change
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param oldCSSClass
+	 *            the CSS class before the change
+	 * @param oldCSSId
+	 *            the CSS id before the change
+	 */
+	default void applyStylesAfterChange(Object widget, String oldCSSClass, String oldCSSId) {
+		applyStyles(widget, true);
+	}
+
 	/**
 	 * Get the style currently active for a widget
 	 *
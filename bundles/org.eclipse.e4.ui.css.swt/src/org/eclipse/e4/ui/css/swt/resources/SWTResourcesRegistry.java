@@ -49,7 +49,7 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 			if (isDisposed(resource)) {
 				// SWT Resource is disposed
 				// unregister it.
-				super.unregisterResource(resource);
+				super.unregisterResource(type, key);
 				return null;
 			}
 		}
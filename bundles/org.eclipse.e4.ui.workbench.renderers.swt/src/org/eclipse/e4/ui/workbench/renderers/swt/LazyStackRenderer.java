@@ -28,6 +28,8 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.di.UIEventTopic;
 import org.eclipse.e4.ui.internal.workbench.swt.AbstractPartRenderer;
+import org.eclipse.e4.ui.internal.workbench.swt.Policy;
+import org.eclipse.e4.ui.internal.workbench.swt.WorkbenchSWTActivator;
 import org.eclipse.e4.ui.model.application.ui.MContext;
 import org.eclipse.e4.ui.model.application.ui.MElementContainer;
 import org.eclipse.e4.ui.model.application.ui.MGenericStack;
@@ -57,6 +59,15 @@ import org.osgi.service.event.EventHandler;
  * arbitrarily cause plug-in loading.
  */
 public abstract class LazyStackRenderer extends SWTPartRenderer {
+	/**
+	 * Transient data key marking the elements whose rendering was deferred
+	 * until they get selected.
+	 */
+	private static final String DEFERRED_RENDERING = "LazyStackRenderer.deferredRendering"; //$NON-NLS-1$
+
+	private int deferredElementCount;
+	private int materializedElementCount;
+
 	private EventHandler lazyLoader = event -> {
 		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
 
@@ -127,6 +138,14 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 	public void childRendered(MElementContainer<MUIElement> parentElement, MUIElement element) {
 		super.childRendered(parentElement, element);
 
+		if (element.getTransientData().remove(DEFERRED_RENDERING) != null) {
+			materializedElementCount++;
+			if (Policy.DEBUG_RENDERER) {
+				WorkbenchSWTActivator.trace(Policy.DEBUG_RENDERER_FLAG, "materialized " + element.getElementId() //$NON-NLS-1$
+						+ " (" + materializedElementCount + " of " + deferredElementCount + " deferred)", null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+
 		if (parentElement.getSelectedElement() != element) {
 			// Make sure that everything is hidden
 			hideElementRecursive(element);
@@ -201,12 +220,38 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 
 			if (lazy) {
 				createTab(me, element);
+				// the selected element gets rendered right after its stack
+				if (element != me.getSelectedElement() && element.getWidget() == null
+						&& !element.getTransientData().containsKey(DEFERRED_RENDERING)) {
+					element.getTransientData().put(DEFERRED_RENDERING, Boolean.TRUE);
+					deferredElementCount++;
+				}
 			} else {
 				renderer.createGui(element);
 			}
 		}
 	}
 
+	/**
+	 * Returns the number of stack children whose rendering was deferred because
+	 * they were not selected when their stack was rendered.
+	 *
+	 * @return the number of deferred children
+	 */
+	public int getDeferredElementCount() {
+		return deferredElementCount;
+	}
+
+	/**
+	 * Returns the number of deferred stack children which were rendered since,
+	 * typically because they got selected.
+	 *
+	 * @return the number of rendered deferred children
+	 */
+	public int getMaterializedElementCount() {
+		return materializedElementCount;
+	}
+
 	/**
 	 * This method is necessary to allow the parent container to show affordance
 	 * (i.e. tabs) for child elements -without- creating the actual part
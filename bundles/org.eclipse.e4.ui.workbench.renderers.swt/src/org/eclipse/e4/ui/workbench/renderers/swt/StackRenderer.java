@@ -26,6 +26,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -170,6 +171,13 @@ public class StackRenderer extends LazyStackRenderer {
 	private static final String SHELL_CLOSE_EDITORS_MENU = "shell_close_editors_menu"; //$NON-NLS-1$
 	private static final String STACK_SELECTED_PART = "stack_selected_part"; //$NON-NLS-1$
 
+	/**
+	 * Key of the tab folder data holding the map from the stack elements to
+	 * their tab items, so that an item is found without scanning all the tabs
+	 * of stacks holding hundreds of editors.
+	 */
+	private static final String TAB_ITEMS = "StackRenderer.TabItems"; //$NON-NLS-1$
+
 	/**
 	 * Add this tag to prevent the next tab's activation from granting focus toac
 	 * the part. This is used to keep the focus on the CTabFolder when traversing
@@ -976,6 +984,10 @@ public class StackRenderer extends LazyStackRenderer {
 		tabItem = new CTabItem(tabFolder, createFlags, index);
 
 		tabItem.setData(OWNING_ME, element);
+		Map<MUIElement, CTabItem> tabItems = getTabItems(tabFolder);
+		tabItems.put(element, tabItem);
+		final CTabItem createdItem = tabItem;
+		tabItem.addDisposeListener(e -> tabItems.remove(element, createdItem));
 		tabItem.setText(getLabel(part, part.getLocalizedLabel()));
 		tabItem.setImage(getImage(part));
 
@@ -1024,12 +1036,20 @@ public class StackRenderer extends LazyStackRenderer {
 		if (tabFolder == null || tabFolder.isDisposed())
 			return null;
 
-		CTabItem[] items = tabFolder.getItems();
-		for (CTabItem item : items) {
-			if (item.getData(OWNING_ME) == element)
-				return item;
+		CTabItem item = getTabItems(tabFolder).get(element);
+		if (item == null || item.isDisposed() || item.getData(OWNING_ME) != element)
+			return null;
+		return item;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<MUIElement, CTabItem> getTabItems(CTabFolder tabFolder) {
+		Map<MUIElement, CTabItem> tabItems = (Map<MUIElement, CTabItem>) tabFolder.getData(TAB_ITEMS);
+		if (tabItems == null) {
+			tabItems = new IdentityHashMap<>();
+			tabFolder.setData(TAB_ITEMS, tabItems);
 		}
-		return null;
+		return tabItems;
 	}
 
 	public CTabItem findItemForPart(MPart part) {
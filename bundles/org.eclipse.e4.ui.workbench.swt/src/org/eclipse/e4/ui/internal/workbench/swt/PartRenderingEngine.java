@@ -1289,14 +1289,16 @@ public class PartRenderingEngine implements IPresentationEngine {
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
+					String oldClassname = WidgetElement.getCSSClass((Widget) widget);
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					themeEngine.applyStyles(widget, true);
+					applyStylesAfterChange(widget, oldClassname, WidgetElement.getID((Widget) widget));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
+					String oldId = WidgetElement.getID((Widget) widget);
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					applyStylesAfterChange(widget, WidgetElement.getCSSClass((Widget) widget), oldId);
 				}
 
 				@Override
@@ -1311,9 +1313,15 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
+					String oldClassname = WidgetElement.getCSSClass((Widget) widget);
+					String oldId = WidgetElement.getID((Widget) widget);
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					applyStylesAfterChange(widget, oldClassname, oldId);
+				}
+
+				private void applyStylesAfterChange(Object widget, String oldClassname, String oldId) {
+					themeEngine.applyStylesAfterChange(widget, oldClassname, oldId);
 				}
 			});
 
@@ -1332,14 +1340,16 @@ public class PartRenderingEngine implements IPresentationEngine {
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
+					String oldClassname = WidgetElement.getCSSClass((Widget) widget);
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesAfterChange(widget, oldClassname, WidgetElement.getID((Widget) widget));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
+					String oldId = WidgetElement.getID((Widget) widget);
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesAfterChange(widget, WidgetElement.getCSSClass((Widget) widget), oldId);
 				}
 
 				@Override
@@ -1358,9 +1368,11 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
+					String oldClassname = WidgetElement.getCSSClass((Widget) widget);
+					String oldId = WidgetElement.getID((Widget) widget);
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesAfterChange(widget, oldClassname, oldId);
 				}
 			});
 
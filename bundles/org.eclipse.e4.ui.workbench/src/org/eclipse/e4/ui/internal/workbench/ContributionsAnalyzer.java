@@ -67,6 +67,90 @@ public final class ContributionsAnalyzer {
 
 	private static final Object missingEvaluate = new Object();
 
+	/**
+	 * Transient data key of the {@link CachedEvaluation} of a core expression.
+	 */
+	private static final String CACHED_EVALUATION = "ContributionsAnalyzer.CachedEvaluation"; //$NON-NLS-1$
+
+	/**
+	 * The expression information of a core expression and its last visibility.
+	 * Menus with hundreds of contributions evaluate the same expressions every
+	 * time they are shown, mostly in an unchanged context.
+	 * <p>
+	 * The last visibility is only reused if the expression tests no property,
+	 * as a property tester can return another result in the same context, and
+	 * if all the variables accessed by the expression have the same values as
+	 * in the last evaluation.
+	 * </p>
+	 */
+	private static final class CachedEvaluation {
+
+		private static final class Visibility {
+			final Object[] values;
+			final boolean visible;
+
+			Visibility(Object[] values, boolean visible) {
+				this.values = values;
+				this.visible = visible;
+			}
+		}
+
+		final Expression expression;
+		final String[] propertyNames;
+		private final String[] variableNames;
+		private final boolean defaultVariableAccess;
+		private final boolean cacheable;
+		private volatile Visibility lastVisibility;
+
+		CachedEvaluation(Expression expression) {
+			this.expression = expression;
+			ExpressionInfo info = expression.computeExpressionInfo();
+			this.propertyNames = info.getAccessedPropertyNames();
+			this.variableNames = info.getAccessedVariableNames();
+			this.defaultVariableAccess = info.hasDefaultVariableAccess();
+			this.cacheable = propertyNames.length == 0 && info.getMisbehavingExpressionTypes() == null;
+		}
+
+		/**
+		 * Returns the values of the variables accessed by the expression, or
+		 * <code>null</code> if the visibility of the expression is not cached.
+		 */
+		Object[] getVariableValues(ExpressionContext eContext) {
+			if (!cacheable) {
+				return null;
+			}
+			Object[] values = new Object[variableNames.length + 1];
+			for (int i = 0; i < variableNames.length; i++) {
+				values[i] = eContext.getVariable(variableNames[i]);
+			}
+			if (defaultVariableAccess) {
+				values[variableNames.length] = eContext.getDefaultVariable();
+			}
+			return values;
+		}
+
+		Boolean getVisibility(Object[] values) {
+			Visibility visibility = lastVisibility;
+			if (values == null || visibility == null) {
+				return null;
+			}
+			for (int i = 0; i < values.length; i++) {
+				// the context is only notified of new values, not of changes
+				// to the state of a value
+				if (values[i] != visibility.values[i]) {
+					return null;
+				}
+			}
+			return Boolean.valueOf(visibility.visible);
+		}
+
+		void setVisibility(Object[] values, boolean visible) {
+			if (values != null) {
+				lastVisibility = new Visibility(values, visible);
+			}
+		}
+	}
+
 	public static void trace(String msg, Throwable error) {
 		if (DEBUG) {
 			Activator.trace(Policy.DEBUG_MENUS_FLAG, msg, error);
@@ -250,18 +334,26 @@ public final class ContributionsAnalyzer {
 			ref = new ReferenceExpression(coreExpression.getCoreExpressionId());
 			coreExpression.setCoreExpression(ref);
 		}
+		CachedEvaluation cachedEvaluation = getCachedEvaluation(coreExpression, ref);
 		// Creates dependency on a predefined value that can be "poked" by
 		// the evaluation
 		// service
-		ExpressionInfo info = ref.computeExpressionInfo();
-		String[] names = info.getAccessedPropertyNames();
-		for (String name : names) {
+		for (String name : cachedEvaluation.propertyNames) {
 			eContext.getVariable(name + ".evaluationServiceLink"); //$NON-NLS-1$
 		}
+		Object[] values = cachedEvaluation.getVariableValues(eContext);
+		Boolean visible = cachedEvaluation.getVisibility(values);
+		if (visible != null) {
+			return visible.booleanValue();
+		}
 		boolean ret = false;
 		try {
 			ret = ref.evaluate(eContext) != EvaluationResult.FALSE;
+			cachedEvaluation.setVisibility(values, ret);
 		} catch (Exception e) {
+			// the information of an expression referring to a missing
+			// definition is incomplete, compute it again next time
+			coreExpression.getTransientData().remove(CACHED_EVALUATION);
 			if (DEBUG) {
 				trace("isVisible exception", e); //$NON-NLS-1$
 			}
@@ -269,6 +361,16 @@ public final class ContributionsAnalyzer {
 		return ret;
 	}
 
+	private static CachedEvaluation getCachedEvaluation(MCoreExpression coreExpression, Expression ref) {
+		Object cached = coreExpression.getTransientData().get(CACHED_EVALUATION);
+		if (cached instanceof CachedEvaluation && ((CachedEvaluation) cached).expression == ref) {
+			return (CachedEvaluation) cached;
+		}
+		CachedEvaluation cachedEvaluation = new CachedEvaluation(ref);
+		coreExpression.getTransientData().put(CACHED_EVALUATION, cachedEvaluation);
+		return cachedEvaluation;
+	}
+
 	private static boolean isImperativeExpressionVisible(MImperativeExpression exp, final ExpressionContext eContext) {
 		Object imperativeExpressionObject = exp.getObject();
 		if (imperativeExpressionObject == null) {
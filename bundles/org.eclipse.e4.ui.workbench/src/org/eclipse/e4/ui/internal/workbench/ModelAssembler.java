@@ -476,11 +476,28 @@ public class ModelAssembler {
 		}
 	}
 
+	/**
+	 * Processes the given fragments in order. When the application model is
+	 * already published, the resulting model events are sent in one
+	 * {@link UIEventPublisher} batch once all fragments are merged.
+	 *
+	 * @param fragmentList the list of fragments
+	 */
 	public void processFragments(Collection<ModelFragmentWrapper> fragmentList) {
-		for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
-			processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
-					fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
-					fragmentWrapper.isCheckExists());
+		UIEventPublisher publisher = context == null ? null : context.get(UIEventPublisher.class);
+		if (publisher != null) {
+			publisher.beginBatch();
+		}
+		try {
+			for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
+				processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
+						fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
+						fragmentWrapper.isCheckExists());
+			}
+		} finally {
+			if (publisher != null) {
+				publisher.endBatch();
+			}
 		}
 	}
 
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Counts the elements of an application model by element id, tag and class.
+ * The counts are kept in sync with the model through the notifications of the
+ * model, and give the maximum number of elements a search of the model by
+ * {@link ModelServiceImpl} can find, so that the search stops once it found
+ * them all, or does not start if there are none.
+ * <p>
+ * A search follows the containment of the model, and the references of
+ * placeholders. The counts are therefore only used as long as every
+ * placeholder of the application references an element of the application.
+ * </p>
+ */
+final class ModelElementIndex extends EContentAdapter {
+
+	private final MApplication application;
+
+	private final Map<String, Integer> idCounts = new HashMap<>();
+
+	private final Map<String, Integer> tagCounts = new HashMap<>();
+
+	private final Map<EClass, Integer> classCounts = new HashMap<>();
+
+	private final Set<MPlaceholder> placeholders = new HashSet<>();
+
+	/**
+	 * Whether all placeholders reference elements of the application, or
+	 * <code>null</code> if not known since the last change of the model.
+	 */
+	private Boolean referencesContained;
+
+	private ModelElementIndex(MApplication application) {
+		this.application = application;
+	}
+
+	/**
+	 * Return the index of the application containing the search root, or
+	 * <code>null</code> if the search may find elements the index does not
+	 * count.
+	 *
+	 * @param searchRoot the root of a search
+	 * @return the index or <code>null</code>
+	 */
+	static ModelElementIndex getIndex(MApplicationElement searchRoot) {
+		if (!(searchRoot instanceof EObject)) {
+			return null;
+		}
+		EObject root = EcoreUtil.getRootContainer((EObject) searchRoot);
+		if (!(root instanceof MApplication)) {
+			return null;
+		}
+		ModelElementIndex index = (ModelElementIndex) EcoreUtil.getExistingAdapter(root, ModelElementIndex.class);
+		if (index == null) {
+			index = new ModelElementIndex((MApplication) root);
+			root.eAdapters().add(index);
+		}
+		return index.isReferencesContained() ? index : null;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ModelElementIndex.class;
+	}
+
+	/**
+	 * Return the maximum number of elements of the application matching all of
+	 * the given criteria.
+	 *
+	 * @param id    the element id, or <code>null</code>
+	 * @param clazz the class, or <code>null</code>
+	 * @param tags  the tags, or <code>null</code>
+	 * @return the maximum number of matching elements, or
+	 *         {@link Integer#MAX_VALUE} if not known
+	 */
+	int getMaxMatches(String id, Class<?> clazz, List<String> tags) {
+		int max = Integer.MAX_VALUE;
+		if (id != null) {
+			max = Math.min(max, idCounts.getOrDefault(id, 0));
+		}
+		if (tags != null) {
+			for (String tag : tags) {
+				max = Math.min(max, tagCounts.getOrDefault(tag, 0));
+			}
+		}
+		if (clazz != null && max > 0) {
+			max = Math.min(max, getInstanceCount(clazz));
+		}
+		return max;
+	}
+
+	private int getInstanceCount(Class<?> clazz) {
+		int count = 0;
+		for (Map.Entry<EClass, Integer> entry : classCounts.entrySet()) {
+			Class<?> instanceClass = entry.getKey().getInstanceClass();
+			if (instanceClass == null) {
+				// a dynamic class, may be an instance of anything
+				return Integer.MAX_VALUE;
+			}
+			if (clazz.isAssignableFrom(instanceClass)) {
+				count += entry.getValue().intValue();
+			}
+		}
+		return count;
+	}
+
+	private boolean isReferencesContained() {
+		if (referencesContained == null) {
+			boolean contained = true;
+			for (MPlaceholder placeholder : placeholders) {
+				MUIElement ref = placeholder.getRef();
+				if (ref instanceof EObject && EcoreUtil.getRootContainer((EObject) ref) != application) {
+					contained = false;
+					break;
+				}
+			}
+			referencesContained = Boolean.valueOf(contained);
+		}
+		return referencesContained.booleanValue();
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			if (notification.getEventType() == Notification.SET
+					|| notification.getEventType() == Notification.UNSET) {
+				decrement(idCounts, notification.getOldStringValue());
+				increment(idCounts, notification.getNewStringValue());
+			}
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			switch (notification.getEventType()) {
+			case Notification.SET:
+				decrement(tagCounts, (String) notification.getOldValue());
+				increment(tagCounts, (String) notification.getNewValue());
+				break;
+			case Notification.ADD:
+				increment(tagCounts, (String) notification.getNewValue());
+				break;
+			case Notification.ADD_MANY:
+				for (Object tag : (Collection<?>) notification.getNewValue()) {
+					increment(tagCounts, (String) tag);
+				}
+				break;
+			case Notification.REMOVE:
+				decrement(tagCounts, (String) notification.getOldValue());
+				break;
+			case Notification.REMOVE_MANY:
+				for (Object tag : (Collection<?>) notification.getOldValue()) {
+					decrement(tagCounts, (String) tag);
+				}
+				break;
+			default:
+				break;
+			}
+		} else if (feature == AdvancedPackageImpl.Literals.PLACEHOLDER__REF) {
+			referencesContained = null;
+		}
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		referencesContained = null;
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			increment(idCounts, element.getElementId());
+			for (String tag : element.getTags()) {
+				increment(tagCounts, tag);
+			}
+			increment(classCounts, target.eClass());
+			if (target instanceof MPlaceholder) {
+				placeholders.add((MPlaceholder) target);
+			}
+		}
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		referencesContained = null;
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			decrement(idCounts, element.getElementId());
+			for (String tag : element.getTags()) {
+				decrement(tagCounts, tag);
+			}
+			decrement(classCounts, target.eClass());
+			if (target instanceof MPlaceholder) {
+				placeholders.remove(target);
+			}
+		}
+	}
+
+	private static <K> void increment(Map<K, Integer> counts, K key) {
+		if (key != null) {
+			counts.merge(key, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		}
+	}
+
+	private static <K> void decrement(Map<K, Integer> counts, K key) {
+		if (key != null) {
+			counts.computeIfPresent(key, (k, count) -> count.intValue() > 1 ? Integer.valueOf(count.intValue() - 1)
+					: null);
+		}
+	}
+}
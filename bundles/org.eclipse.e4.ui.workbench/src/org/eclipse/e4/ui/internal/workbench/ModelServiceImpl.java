@@ -22,6 +22,7 @@ import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.LinkedHashSet;
@@ -168,10 +169,14 @@ public class ModelServiceImpl implements EModelService {
 
 	}
 
+	/**
+	 * Collects the matching elements in search order. The search stops as soon as
+	 * <code>limit</code> elements have been found.
+	 */
 	private <T> void findElementsRecursive(MApplicationElement searchRoot, Class<T> clazz,
-			Selector matcher, LinkedHashSet<T> elements, int searchFlags) {
+			Selector matcher, LinkedHashSet<T> elements, int searchFlags, int limit) {
 		Assert.isLegal(searchRoot != null);
-		if (searchFlags == 0) {
+		if (searchFlags == 0 || elements.size() >= limit) {
 			return;
 		}
 
@@ -185,18 +190,18 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MApplication && (searchFlags == ANYWHERE)) {
 			MApplication app = (MApplication) searchRoot;
 
-			List<MApplicationElement> children = new ArrayList<>();
+			List<? extends MApplicationElement> children = Collections.emptyList();
 			if (clazz != null) {
 				if (clazz.equals(MHandler.class)) {
-					children.addAll(app.getHandlers());
+					children = app.getHandlers();
 				} else if (clazz.equals(MCommand.class)) {
-					children.addAll(app.getCommands());
+					children = app.getCommands();
 				} else if (clazz.equals(MBindingContext.class)) {
-					children.addAll(app.getBindingContexts());
+					children = app.getBindingContexts();
 				} else if (clazz.equals(MBindingTable.class) || clazz.equals(MKeyBinding.class)) {
-					children.addAll(app.getBindingTables());
+					children = app.getBindingTables();
 				} else if (clazz.equals(MAddon.class)) {
-					children.addAll(app.getAddons());
+					children = app.getAddons();
 				}
 				// } else { only look for these if specifically asked.
 				// children.addAll(app.getHandlers());
@@ -206,21 +211,21 @@ public class ModelServiceImpl implements EModelService {
 			}
 
 			for (MApplicationElement child : children) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 
 		if (searchRoot instanceof MBindingContext && (searchFlags == ANYWHERE)) {
 			MBindingContext bindingContext = (MBindingContext) searchRoot;
 			for (MBindingContext child : bindingContext.getChildren()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 
 		if (searchRoot instanceof MBindingTable) {
 			MBindingTable bindingTable = (MBindingTable) searchRoot;
 			for (MKeyBinding child : bindingTable.getBindings()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 
@@ -240,7 +245,7 @@ public class ModelServiceImpl implements EModelService {
 				if((searchFlags & IN_SHARED_ELEMENTS) != 0) {
 					List<MUIElement> sharedElements = ((MWindow) searchRoot).getSharedElements();
 					for (MUIElement muiElement : sharedElements) {
-						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags, limit);
 					}
 				}
 
@@ -255,19 +260,19 @@ public class ModelServiceImpl implements EModelService {
 					MElementContainer<? extends MUIElement> container = searchContainer;
 					List<? extends MUIElement> children = container.getChildren();
 					for (MUIElement child : children) {
-						findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 					}
 				} else if ((searchFlags & IN_ACTIVE_PERSPECTIVE) != 0) {
 					// Only search the currently active perspective, if any
 					MPerspective active = ((MPerspectiveStack) searchContainer).getSelectedElement();
 					if (active != null) {
-						findElementsRecursive(active, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(active, clazz, matcher, elements, searchFlags, limit);
 					}
 				} else if ((searchFlags & IN_SHARED_AREA) != 0) {
 					// Only recurse through the shared areas
 					List<MArea> areas = findElements(searchContainer, null, MArea.class);
 					for (MArea area : areas) {
-						findElementsRecursive(area, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(area, clazz, matcher, elements, searchFlags, limit);
 					}
 				}
 			} else {
@@ -275,7 +280,7 @@ public class ModelServiceImpl implements EModelService {
 				MElementContainer<MUIElement> container = (MElementContainer<MUIElement>) searchRoot;
 				List<MUIElement> children = container.getChildren();
 				for (MUIElement child : children) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 				}
 			}
 		}
@@ -285,7 +290,7 @@ public class ModelServiceImpl implements EModelService {
 			MTrimmedWindow tw = (MTrimmedWindow) searchRoot;
 			List<MTrimBar> bars = tw.getTrimBars();
 			for (MTrimBar bar : bars) {
-				findElementsRecursive(bar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(bar, clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 
@@ -293,17 +298,17 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MWindow) {
 			MWindow window = (MWindow) searchRoot;
 			for (MWindow dw : window.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, limit);
 			}
 
 			MMenu menu = window.getMainMenu();
 			if (menu != null && (searchFlags & IN_MAIN_MENU) != 0) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, limit);
 			}
 			// Check for Handlers
 			if (searchFlags == ANYWHERE && MHandler.class.equals(clazz)) {
 				for (MHandler child : window.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 				}
 			}
 		}
@@ -311,7 +316,7 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MPerspective) {
 			MPerspective persp = (MPerspective) searchRoot;
 			for (MWindow dw : persp.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 		// Search shared elements
@@ -321,7 +326,7 @@ public class ModelServiceImpl implements EModelService {
 			// Don't search in shared areas unless the flag is set
 			if (ph.getRef() != null
 					&& (!(ph.getRef() instanceof MArea) || (searchFlags & IN_SHARED_AREA) != 0)) {
-				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags);
+				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags, limit);
 			}
 		}
 
@@ -329,16 +334,16 @@ public class ModelServiceImpl implements EModelService {
 			MPart part = (MPart) searchRoot;
 
 			for (MMenu menu : part.getMenus()) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, limit);
 			}
 
 			MToolBar toolBar = part.getToolbar();
 			if (toolBar != null) {
-				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags, limit);
 			}
 			if (MHandler.class.equals(clazz)) {
 				for (MHandler child : part.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, limit);
 				}
 			}
 		}
@@ -411,7 +416,7 @@ public class ModelServiceImpl implements EModelService {
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch) {
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, clazz, ANYWHERE, matcher, getMaxMatches(searchRoot, id, clazz, tagsToMatch));
 	}
 
 	@Override
@@ -423,23 +428,40 @@ public class ModelServiceImpl implements EModelService {
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, searchFlags, matcher);
+		return findElements(searchRoot, clazz, searchFlags, matcher,
+				getMaxMatches(searchRoot, id, clazz, tagsToMatch));
 	}
 
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
+		return findElements(searchRoot, clazz, searchFlags, matcher, Integer.MAX_VALUE);
+	}
+
+	private <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz, int searchFlags,
+			Selector matcher, int limit) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
-		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, limit);
 		return new ArrayList<>(elements);
 	}
 
+	/**
+	 * Return the maximum number of elements matching the id, class and tags
+	 * that a search from the search root can find, so that the search can stop
+	 * once it found them all.
+	 */
+	private int getMaxMatches(MApplicationElement searchRoot, String id, Class<?> clazz, List<String> tagsToMatch) {
+		ModelElementIndex index = ModelElementIndex.getIndex(searchRoot);
+		return index == null ? Integer.MAX_VALUE : index.getMaxMatches(id, clazz, tagsToMatch);
+	}
+
 	private <T> Iterable<T> findPerspectiveElements(MUIElement searchRoot, String id,
 			Class<T> clazz,
 			List<String> tagsToMatch) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION,
+				getMaxMatches(searchRoot, id, clazz, tagsToMatch));
 		return elements;
 	}
 
@@ -449,7 +471,10 @@ public class ModelServiceImpl implements EModelService {
 			return null;
 		}
 
-		List<MUIElement> elements = findElements(searchRoot, id, MUIElement.class);
+		// only the first match is of interest, no need to search the whole model
+		ElementMatcher matcher = new ElementMatcher(id, MUIElement.class, (List<String>) null);
+		int limit = Math.min(1, getMaxMatches(searchRoot, id, MUIElement.class, null));
+		List<MUIElement> elements = findElements(searchRoot, MUIElement.class, ANYWHERE, matcher, limit);
 		if (!elements.isEmpty()) {
 			return elements.get(0);
 		}
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning the activation of a part by the
+ * {@link PartServiceImpl}, including the notification of the part listeners.
+ */
+@Name("org.eclipse.e4.ui.workbench.PartActivation")
+@Label("Part Activation")
+@Category({ "Eclipse", "Workbench" })
+@Description("Activation of a part of the workbench model")
+@StackTrace(false)
+public final class PartActivationEvent extends Event {
+	@Label("Part")
+	@Description("Element ID of the part")
+	String partId;
+}
@@ -19,8 +19,13 @@ import static java.util.Collections.singletonList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.ui.MElementContainer;
@@ -38,11 +43,118 @@ import org.eclipse.emf.ecore.EObject;
 
 class PartActivationHistory {
 
+	/**
+	 * The activation history, most recently activated part first. The parts
+	 * are linked in a list and indexed by a map so that moving a part to the
+	 * front, adding it to the end or removing it does not walk the history,
+	 * which can hold hundreds of editors.
+	 */
+	private static final class ActivationList implements Iterable<MPart> {
+
+		private static final class Node {
+			final MPart part;
+			Node previous;
+			Node next;
+
+			Node(MPart part) {
+				this.part = part;
+			}
+		}
+
+		private final Map<MPart, Node> nodes = new HashMap<>();
+		private Node first;
+		private Node last;
+
+		void addFirst(MPart part) {
+			Node node = nodes.get(part);
+			if (node == null) {
+				node = new Node(part);
+				nodes.put(part, node);
+			} else if (node == first) {
+				return;
+			} else {
+				unlink(node);
+			}
+			node.next = first;
+			if (first == null) {
+				last = node;
+			} else {
+				first.previous = node;
+			}
+			first = node;
+		}
+
+		void addLastIfAbsent(MPart part) {
+			if (nodes.containsKey(part)) {
+				return;
+			}
+			Node node = new Node(part);
+			nodes.put(part, node);
+			node.previous = last;
+			if (last == null) {
+				first = node;
+			} else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(MPart part) {
+			Node node = nodes.remove(part);
+			if (node != null) {
+				unlink(node);
+			}
+		}
+
+		void clear() {
+			nodes.clear();
+			first = null;
+			last = null;
+		}
+
+		private void unlink(Node node) {
+			if (node.previous == null) {
+				first = node.next;
+			} else {
+				node.previous.next = node.next;
+			}
+			if (node.next == null) {
+				last = node.previous;
+			} else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		@Override
+		public Iterator<MPart> iterator() {
+			return new Iterator<>() {
+				private Node next = first;
+
+				@Override
+				public boolean hasNext() {
+					return next != null;
+				}
+
+				@Override
+				public MPart next() {
+					if (next == null) {
+						throw new NoSuchElementException();
+					}
+					MPart part = next.part;
+					next = next.next;
+					return part;
+				}
+			};
+		}
+	}
+
 	private PartServiceImpl partService;
 
 	private EModelService modelService;
 
-	private LinkedList<MPart> generalActivationHistory = new LinkedList<>();
+	private final ActivationList generalActivationHistory = new ActivationList();
 
 	PartActivationHistory(PartServiceImpl partService, EModelService modelService) {
 		this.partService = partService;
@@ -78,9 +190,7 @@ class PartActivationHistory {
 	 *            the part to possibly add to the end of the activation history
 	 */
 	void append(MPart part) {
-		if (!generalActivationHistory.contains(part)) {
-			generalActivationHistory.addLast(part);
-		}
+		generalActivationHistory.addLastIfAbsent(part);
 	}
 
 	/**
@@ -90,7 +200,6 @@ class PartActivationHistory {
 	 *            the part to insert into the front of the activation history
 	 */
 	void prepend(MPart part) {
-		generalActivationHistory.remove(part);
 		generalActivationHistory.addFirst(part);
 	}
 
@@ -231,21 +340,31 @@ class PartActivationHistory {
 
 	MPart getActivationCandidate(Collection<MPart> validParts) {
 		// check activation history, since the history is global, we need to filter it down first
-		Collection<MPart> validCandidates = new ArrayList<>();
-		for (MPart validPart : generalActivationHistory) {
-			if (validParts.contains(validPart)) {
-				validCandidates.add(validPart);
-			}
-		}
+		Collection<MPart> validCandidates = filterHistory(validParts);
 
 		MPart candidate = findActivationCandidate(validCandidates);
 		if (candidate == null) {
-			validParts.removeAll(validCandidates);
+			validParts.removeAll(new HashSet<>(validCandidates));
 			return findActivationCandidate(validParts);
 		}
 		return candidate;
 	}
 
+	/**
+	 * Returns the parts of the activation history that are in the given
+	 * collection, most recently activated part first.
+	 */
+	private Collection<MPart> filterHistory(Collection<MPart> validParts) {
+		Set<MPart> validPartSet = new HashSet<>(validParts);
+		Collection<MPart> validCandidates = new ArrayList<>();
+		for (MPart validPart : generalActivationHistory) {
+			if (validPartSet.contains(validPart)) {
+				validCandidates.add(validPart);
+			}
+		}
+		return validCandidates;
+	}
+
 	private MPart findActivationCandidate(Collection<MPart> candidates) {
 		for (MPart candidate : candidates) {
 			// make sure it's rendered and visible
@@ -287,12 +406,7 @@ class PartActivationHistory {
 		}
 
 		// check activation history, since the history is global, we need to filter it down first
-		Collection<MPart> validCandidates = new ArrayList<>();
-		for (MPart validPart : generalActivationHistory) {
-			if (validParts.contains(validPart)) {
-				validCandidates.add(validPart);
-			}
-		}
+		Collection<MPart> validCandidates = filterHistory(validParts);
 
 		MPart candidate = findActivationCandidate(validCandidates, part);
 		return candidate == null ? getActivationCandidate(part) : candidate;
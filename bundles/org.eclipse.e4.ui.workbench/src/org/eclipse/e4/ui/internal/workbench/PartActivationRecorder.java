@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+
+/**
+ * Records the {@link PartActivationEvent}s of the {@link PartServiceImpl}. The
+ * flight recorder API is imported optionally, so the event is only used if the
+ * API can be loaded by this bundle. The events are passed around as objects so
+ * that the callers do not refer to the event class.
+ */
+final class PartActivationRecorder {
+
+	private static volatile boolean enabled = isFlightRecorderWired();
+
+	private PartActivationRecorder() {
+	}
+
+	/**
+	 * Begins the event of the activation of a part.
+	 *
+	 * @return the event, or <code>null</code> if the flight recorder is not
+	 *         available
+	 */
+	static Object begin() {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			PartActivationEvent event = new PartActivationEvent();
+			event.begin();
+			return event;
+		} catch (LinkageError e) {
+			enabled = false;
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the event of the activation of a part, and commits it if a recording
+	 * includes it.
+	 *
+	 * @param event the event returned by {@link #begin()}, or <code>null</code>
+	 * @param part  the activated part
+	 */
+	static void commit(Object event, MPart part) {
+		if (event == null) {
+			return;
+		}
+		PartActivationEvent jfrEvent = (PartActivationEvent) event;
+		jfrEvent.end();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.partId = part.getElementId();
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, PartActivationRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
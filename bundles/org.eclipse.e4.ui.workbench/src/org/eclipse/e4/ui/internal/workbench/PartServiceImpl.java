@@ -687,6 +687,19 @@ public class PartServiceImpl implements EPartService {
 	}
 
 	private void activate(MPart part, boolean requiresFocus, boolean activateBranch) {
+		if (part == null) {
+			doActivate(part, requiresFocus, activateBranch);
+			return;
+		}
+		Object jfrEvent = PartActivationRecorder.begin();
+		try {
+			doActivate(part, requiresFocus, activateBranch);
+		} finally {
+			PartActivationRecorder.commit(jfrEvent, part);
+		}
+	}
+
+	private void doActivate(MPart part, boolean requiresFocus, boolean activateBranch) {
 		if (part == null) {
 			if (constructed && activePart != null) {
 				if (Policy.DEBUG_FOCUS) {
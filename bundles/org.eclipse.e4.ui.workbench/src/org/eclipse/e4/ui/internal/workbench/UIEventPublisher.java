@@ -14,8 +14,11 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -33,11 +36,52 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
 
 /**
  * Transforms E4 MPart events into 3.x legacy events.
+ * <p>
+ * Between {@link #beginBatch()} and {@link #endBatch()}, the events of the
+ * thread which started the batch are queued and sent when the batch ends.
+ * Successive SET events of the same attribute of the same element are
+ * coalesced into one event carrying the first old value and the last new
+ * value, sent at the position of the last SET.
+ * </p>
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	/**
+	 * The key of a queued event which may be coalesced with later events:
+	 * SET events are coalesced per element and topic, other events are never
+	 * coalesced and use a unique key.
+	 */
+	private static final class EventKey {
+		private final Object element;
+		private final String topic;
+
+		EventKey(Object element, String topic) {
+			this.element = element;
+			this.topic = topic;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(element) + topic.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof EventKey && ((EventKey) obj).element == element
+					&& ((EventKey) obj).topic.equals(topic);
+		}
+	}
+
 	private IEclipseContext context;
 
+	private Thread batchThread;
+	private int batchDepth;
+	private final Map<Object, Map<String, Object>> queuedEvents = new LinkedHashMap<>();
+	private final Map<Object, String> queuedTopics = new HashMap<>();
+
+	private final Map<String, Integer> publishedEventCounts = new ConcurrentHashMap<>();
+	private int coalescedEventCount;
+
 	public UIEventPublisher(IEclipseContext e4Context) {
 		this.context = e4Context;
 	}
@@ -56,9 +100,97 @@ public class UIEventPublisher extends EContentAdapter {
 		String topic = formatData(notification, argMap);
 
 		if (topic != null) {
-			IEventBroker eventManager = context.get(IEventBroker.class);
-			eventManager.send(topic, argMap);
+			if (batchDepth > 0 && Thread.currentThread() == batchThread) {
+				queue(notification, topic, argMap);
+			} else {
+				send(topic, argMap);
+			}
+		}
+	}
+
+	/**
+	 * Starts queuing the events of the current thread until the matching
+	 * {@link #endBatch()}. Batches may be nested, the events are sent when the
+	 * outermost batch ends. Events of other threads are sent immediately.
+	 */
+	public void beginBatch() {
+		if (batchDepth > 0 && Thread.currentThread() != batchThread) {
+			throw new IllegalStateException("A batch is already in progress on thread " + batchThread.getName()); //$NON-NLS-1$
+		}
+		batchThread = Thread.currentThread();
+		batchDepth++;
+	}
+
+	/**
+	 * Ends a batch started with {@link #beginBatch()}, sending the queued
+	 * events in order if this was the outermost batch.
+	 */
+	public void endBatch() {
+		if (batchDepth == 0 || Thread.currentThread() != batchThread) {
+			throw new IllegalStateException("No batch in progress on this thread"); //$NON-NLS-1$
 		}
+		if (--batchDepth > 0) {
+			return;
+		}
+		batchThread = null;
+		// events sent by handlers while flushing are not queued anymore
+		Map<Object, Map<String, Object>> events = new LinkedHashMap<>(queuedEvents);
+		Map<Object, String> topics = new HashMap<>(queuedTopics);
+		queuedEvents.clear();
+		queuedTopics.clear();
+		for (Map.Entry<Object, Map<String, Object>> event : events.entrySet()) {
+			send(topics.get(event.getKey()), event.getValue());
+		}
+	}
+
+	private void queue(Notification notification, String topic, Map<String, Object> argMap) {
+		if (notification.getEventType() != Notification.SET
+				|| !(notification.getNotifier() instanceof MApplicationElement)) {
+			Object key = new Object();
+			queuedEvents.put(key, argMap);
+			queuedTopics.put(key, topic);
+			return;
+		}
+		EventKey key = new EventKey(notification.getNotifier(), topic);
+		Map<String, Object> queuedArgMap = queuedEvents.remove(key);
+		if (queuedArgMap != null) {
+			// keep the value before the first SET
+			coalescedEventCount++;
+			Object oldValue = queuedArgMap.get(EventTags.OLD_VALUE);
+			if (oldValue != null) {
+				argMap.put(EventTags.OLD_VALUE, oldValue);
+			} else {
+				argMap.remove(EventTags.OLD_VALUE);
+			}
+		}
+		// move the event after the events queued since the previous SET
+		queuedEvents.put(key, argMap);
+		queuedTopics.put(key, topic);
+	}
+
+	private void send(String topic, Map<String, Object> argMap) {
+		publishedEventCounts.merge(topic, 1, Integer::sum);
+		IEventBroker eventManager = context.get(IEventBroker.class);
+		eventManager.send(topic, argMap);
+	}
+
+	/**
+	 * Returns the number of events sent so far, by topic.
+	 *
+	 * @return an unmodifiable copy of the event counts
+	 */
+	public Map<String, Integer> getPublishedEventCounts() {
+		return Collections.unmodifiableMap(new HashMap<>(publishedEventCounts));
+	}
+
+	/**
+	 * Returns the number of SET events which were coalesced with a later SET
+	 * event of the same attribute during a batch, and thus not sent.
+	 *
+	 * @return the number of coalesced events
+	 */
+	public int getCoalescedEventCount() {
+		return coalescedEventCount;
 	}
 
 	/**
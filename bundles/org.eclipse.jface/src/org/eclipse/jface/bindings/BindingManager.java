@@ -217,6 +217,13 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 */
 	private Set bindingErrors = new HashSet();
 
+	/**
+	 * The identifiers of the contexts (<code>String</code>) referenced by at
+	 * least one binding of this manager. This value is <code>null</code> if it
+	 * has not been computed since the bindings last changed.
+	 */
+	private Set bindingContextIds = null;
+
 	/**
 	 * The array of all bindings currently handled by this manager. This array
 	 * is the raw list of bindings, as provided to this manager. This value may
@@ -434,6 +441,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			Tracing.printTrace("BINDINGS", "Clearing cache"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		cachedBindings.clear();
+		bindingContextIds = null;
 		clearSolution();
 	}
 
@@ -690,10 +698,91 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			final ContextManagerEvent contextManagerEvent) {
 		if (contextManagerEvent.isActiveContextsChanged()) {
 // clearSolution();
+			if (activeBindings != null && !affectsBindings(contextManagerEvent.getPreviouslyActiveContextIds())) {
+				if (DEBUG) {
+					Tracing.printTrace("BINDINGS", "Active contexts changed, no binding affected"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return;
+			}
 			recomputeBindings();
 		}
 	}
 
+	/**
+	 * <p>
+	 * Determines whether a change of the active contexts can change the active
+	 * bindings. This is the case if a context that was activated or deactivated,
+	 * or one of its parents, is referenced by a binding, or if it is the dialog
+	 * or window context, which decide what other contexts are considered.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(ch)</code>, where <code>c</code> is the
+	 * number of active contexts and <code>h</code> is the height of the context
+	 * tree, once the referenced contexts are known.
+	 * </p>
+	 *
+	 * @param previouslyActiveContextIds
+	 *            The context identifiers active before the change; may be
+	 *            <code>null</code>.
+	 * @return <code>true</code> if the bindings need to be recomputed.
+	 */
+	private final boolean affectsBindings(final Set previouslyActiveContextIds) {
+		if (previouslyActiveContextIds == null) {
+			return true;
+		}
+		final Set activeContextIds = contextManager.getActiveContextIds();
+		final Iterator previousItr = previouslyActiveContextIds.iterator();
+		while (previousItr.hasNext()) {
+			final String contextId = (String) previousItr.next();
+			if (!activeContextIds.contains(contextId) && affectsBindings(contextId)) {
+				return true;
+			}
+		}
+		final Iterator activeItr = activeContextIds.iterator();
+		while (activeItr.hasNext()) {
+			final String contextId = (String) activeItr.next();
+			if (!previouslyActiveContextIds.contains(contextId) && affectsBindings(contextId)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determines whether the (de)activation of the given context can change the
+	 * active bindings.
+	 *
+	 * @param contextId
+	 *            The identifier of the context; must not be <code>null</code>.
+	 * @return <code>true</code> if the bindings need to be recomputed.
+	 */
+	private final boolean affectsBindings(final String contextId) {
+		if (IContextIds.CONTEXT_ID_DIALOG.equals(contextId) || IContextIds.CONTEXT_ID_WINDOW.equals(contextId)
+				|| IContextIds.CONTEXT_ID_DIALOG_AND_WINDOW.equals(contextId)) {
+			return true;
+		}
+		if (bindingContextIds == null) {
+			final Set contextIds = new HashSet();
+			for (int i = 0; i < bindingCount; i++) {
+				contextIds.add(bindings[i].getContextId());
+			}
+			bindingContextIds = contextIds;
+		}
+		String contextPointer = contextId;
+		while (contextPointer != null) {
+			if (bindingContextIds.contains(contextPointer)) {
+				return true;
+			}
+			try {
+				contextPointer = contextManager.getContext(contextPointer).getParentId();
+			} catch (final NotDefinedException e) {
+				// the tree computed for it is unknown, so be safe
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns the number of strokes in an array of triggers. It is assumed that
 	 * there is one natural key per trigger. The strokes are counted based on
@@ -1704,6 +1793,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 * </p>
 	 */
 	private final void recomputeBindings() {
+		final long startTime = DEBUG ? System.nanoTime() : 0L;
 		if (bindings == null) {
 			// Not yet initialized. This is happening too early. Do nothing.
 			setActiveBindings(Collections.EMPTY_MAP, Collections.EMPTY_MAP,
@@ -1762,6 +1852,11 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		setActiveBindings(commandIdsByTrigger, triggersByParameterizedCommand,
 				newPrefixTable,
 				conflictsByTrigger);
+
+		if (DEBUG) {
+			Tracing.printTrace("BINDINGS", "Recomputed " + bindingCount + " bindings in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.nanoTime() - startTime) / 1000000 + "ms"); //$NON-NLS-1$
+		}
 	}
 
 	/**
@@ -130,7 +130,7 @@ public class CachedMarkerBuilder {
 
 		if (isIncremental()) {
 			if (incrementJob != null) {
-				incrementJob.clearEntries();
+				incrementJob.clearUpdates();
 			}
 		}
 	}
@@ -435,11 +435,12 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
-				updateJob = new MarkerUpdateJob(this);
+				if (isIncremental()) {
+					incrementJob = new IncrementUpdateJob(this);
+					updateJob = incrementJob;
+				} else {
+					updateJob = new MarkerUpdateJob(this);
+				}
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
 			}
@@ -582,18 +583,14 @@ public class CachedMarkerBuilder {
 ///////	<Incremental update code>///////
 		private IncrementUpdateJob incrementJob;
 	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
+	 * Checks whether the builder should perform incrementally, i.e. apply the
+	 * marker deltas to the markers instead of collecting all of them on every
+	 * change.
 	 *
 	 * @return Returns true if we should collect markers incrementally.
 	 */
 	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
+		return true;
 	}
 
 	/**
@@ -622,13 +619,21 @@ public class CachedMarkerBuilder {
 	 * Handles an incremental update
 	 */
 	void incrementalUpdate(MarkerUpdate update) {
+		boolean[] newChangeFlags = new boolean[] { !update.added.isEmpty(), !update.removed.isEmpty(),
+				!update.changed.isEmpty() };
 		synchronized (getUpdateScheduler().getSchedulingLock()) {
 			if (incrementJob == null) {
-				scheduleUpdateJob(MarkerUpdateScheduler.SHORT_DELAY, true);
+				// nothing was collected yet
+				getUpdateScheduler().scheduleIncrementalUpdate(true, newChangeFlags);
+				return;
 			}
-		}
-		if (incrementJob != null) {
 			incrementJob.addUpdate(update);
+			// a waiting job applies the update when it runs, rescheduling it
+			// would only delay it further while changes keep coming in
+			int state = incrementJob.getState();
+			if (state == Job.NONE || state == Job.RUNNING) {
+				getUpdateScheduler().scheduleIncrementalUpdate(false, newChangeFlags);
+			}
 		}
 	}
 ///////	</Incremental update code>///////
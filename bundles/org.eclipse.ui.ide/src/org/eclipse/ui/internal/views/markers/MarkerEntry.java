@@ -68,9 +68,23 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	// The key for the string we built for display
 	private static final String LOCATION_STRING = "LOCATION_STRING"; //$NON-NLS-1$
 	private static final Object CACHED_NULL = new String("CACHED_NULL"); //$NON-NLS-1$
+	// Values of the compact attribute fields that are not attribute values
+	private static final int NOT_READ = Integer.MIN_VALUE;
+	private static final int NOT_SET = Integer.MIN_VALUE + 1;
+	private static final int NOT_COMPACT = Integer.MIN_VALUE + 2;
+	private static final byte BYTE_NOT_READ = Byte.MIN_VALUE;
+	private static final byte BYTE_NOT_SET = Byte.MIN_VALUE + 1;
+	private static final byte BYTE_NOT_COMPACT = Byte.MIN_VALUE + 2;
+
 	private MarkerCategory category;
-	private final Map<String, Object> cache = new ConcurrentHashMap<>();
+	/**
+	 * The cached values of the other attributes, created when needed and
+	 * dropped by {@link #clearCache()}, so that the many entries of a view
+	 * only hold a map while they are sorted or filtered.
+	 */
+	private volatile Map<String, Object> cache;
 	private static Map<String, CollationKey> collationCache = new ConcurrentHashMap<>();
+	private static Map<String, String> pathCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Set the MarkerEntry to be stale, if discovered at any point of time
@@ -84,6 +98,14 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	private String markerType;
 	/** cached value **/
 	private String markerTypeName;
+	/**
+	 * cached value of the severity, used by most views for sorting and
+	 * filtering. Kept when the cache is cleared, the entry of a changed marker
+	 * is replaced.
+	 **/
+	private byte severity = BYTE_NOT_READ;
+	/** cached value of the line number, see {@link #severity} **/
+	private int lineNumber = NOT_READ;
 
 	/**
 	 * Important: access to these fields must be via methods, they must be in sync
@@ -138,6 +160,34 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 
 	@Override
 	public int getAttributeValue(String attribute, int defaultValue) {
+		if (IMarker.SEVERITY.equals(attribute)) {
+			if (severity == BYTE_NOT_READ) {
+				int value = toCompactValue(readAttributeValue(attribute));
+				if (value == NOT_SET) {
+					severity = BYTE_NOT_SET;
+				} else if (value > BYTE_NOT_COMPACT && value <= Byte.MAX_VALUE) {
+					severity = (byte) value;
+				} else {
+					severity = BYTE_NOT_COMPACT;
+				}
+			}
+			if (severity == BYTE_NOT_SET) {
+				return defaultValue;
+			}
+			if (severity != BYTE_NOT_COMPACT) {
+				return severity;
+			}
+		} else if (IMarker.LINE_NUMBER.equals(attribute)) {
+			if (lineNumber == NOT_READ) {
+				lineNumber = toCompactValue(readAttributeValue(attribute));
+			}
+			if (lineNumber == NOT_SET) {
+				return defaultValue;
+			}
+			if (lineNumber != NOT_COMPACT) {
+				return lineNumber;
+			}
+		}
 		Object value = getAttributeValue(attribute);
 		if (value == null) {
 			return defaultValue;
@@ -152,22 +202,42 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	 * @return Object or <code>null</code>
 	 */
 	Object getAttributeValue(String attribute) {
-		Object value = getCachedValueOrCompute(attribute, () -> {
-			if(stale){
-				return null;
-			}
-			Object v;
-			try {
-				v = marker.getAttribute(attribute);
-			} catch (CoreException e) {
-				checkIfMarkerStale();
-				v = null;
-			}
-			return v;
-		});
+		Object value = getCachedValueOrCompute(attribute, () -> readAttributeValue(attribute));
 		return value;
 	}
 
+	private Object readAttributeValue(String attribute) {
+		if(stale){
+			return null;
+		}
+		Object v;
+		try {
+			v = marker.getAttribute(attribute);
+		} catch (CoreException e) {
+			checkIfMarkerStale();
+			v = null;
+		}
+		return v;
+	}
+
+	/**
+	 * Return the value to keep in a compact attribute field for an attribute
+	 * value, {@link #NOT_SET} for <code>null</code> or {@link #NOT_COMPACT} if
+	 * the value is not an int, or one of the other values of the field.
+	 */
+	private static int toCompactValue(Object value) {
+		if (value == null) {
+			return NOT_SET;
+		}
+		if (value instanceof Integer) {
+			int intValue = ((Integer) value).intValue();
+			if (intValue > NOT_COMPACT) {
+				return intValue;
+			}
+		}
+		return NOT_COMPACT;
+	}
+
 	@Override
 	public String getAttributeValue(String attribute, String defaultValue) {
 		Object value = getAttributeValue(attribute);
@@ -331,7 +401,9 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 			return super.getPath();
 		}
 		String folder = path.removeLastSegments(1).removeTrailingSeparator().toString();
-		return folder;
+		// the markers of a folder share the string
+		String shared = pathCache.putIfAbsent(folder, folder);
+		return shared != null ? shared : folder;
 	}
 
 	@Override
@@ -347,7 +419,17 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	}
 
 	protected Object getCachedValueOrCompute(String key, Supplier<Object> supplier) {
-		Object cached = cache.computeIfAbsent(key, k -> {
+		Map<String, Object> map = cache;
+		if (map == null) {
+			synchronized (this) {
+				map = cache;
+				if (map == null) {
+					map = new ConcurrentHashMap<>(4);
+					cache = map;
+				}
+			}
+		}
+		Object cached = map.computeIfAbsent(key, k -> {
 			Object value = supplier.get();
 			// also remember null values:
 			Object toCache = (value != null) ? value : CACHED_NULL;
@@ -359,14 +441,22 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 
 	/**
 	 * Clear the cached values for performance reasons.
+	 * <p>
+	 * The severity and the line number survive this, they are read once for
+	 * the lifetime of the entry. That is only safe because an entry is never
+	 * refreshed when its marker changes: the {@link IncrementUpdateJob}
+	 * replaces the entry of a changed marker with a new one, and a clean
+	 * update creates new entries for all markers.
+	 * </p>
 	 */
 	@Override
 	void clearCache() {
-		cache.clear();
+		cache = null;
 	}
 
 	static void clearCollationCache() {
 		collationCache = new ConcurrentHashMap<>();
+		pathCache = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -36,7 +36,7 @@ import org.osgi.framework.Bundle;
 class MarkerUpdateJob extends Job {
 
 	CachedMarkerBuilder builder;
-	private boolean clean;
+	private volatile boolean clean;
 	private long lastUpdateTime = -1;
 
 	MarkerUpdateJob(CachedMarkerBuilder builder) {
@@ -65,7 +65,11 @@ class MarkerUpdateJob extends Job {
 
 		Collection<MarkerEntry> markerEntries = new LinkedList<>();
 		//this is not incremental clean every time
-		clean = !clean(markerEntries, monitor);
+		// a clean requested while collecting must survive for the next run
+		clean = false;
+		if (!clean(markerEntries, monitor)) {
+			setClean();
+		}
 		if (monitor.isCanceled()) {
 			return;
 		}
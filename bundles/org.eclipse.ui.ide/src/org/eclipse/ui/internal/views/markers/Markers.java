@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IMarker;
@@ -61,6 +62,13 @@ class Markers {
 	private Map<IMarker, MarkerEntry> markerToEntryMap;
 	private Integer[] markerCounts;
 
+	// the group the categories were built with, and the grouping entry of
+	// each category
+	private MarkerGroup groupedBy;
+	private MarkerGroupingEntry[] categoryGroups;
+	// whether all entries are sorted, and not only the ones shown
+	private boolean sortedFully;
+
 	Markers(CachedMarkerBuilder builder) {
 		this.builder = builder;
 	}
@@ -83,9 +91,15 @@ class Markers {
 				markerToEntryMap = null;
 			}
 			markerCounts = null;
+			groupedBy = null;
+			categoryGroups = null;
+			sortedFully = false;
 			if (markerEntries.isEmpty()) {
 				categories = EMPTY_CATEGORY_ARRAY;
 				markerEntryArray = EMPTY_ENTRY_ARRAY;
+				groupedBy = builder.getCategoryGroup();
+				categoryGroups = new MarkerGroupingEntry[0];
+				sortedFully = true;
 				return true;
 			}
 			if (monitor.isCanceled()) {
@@ -125,6 +139,8 @@ class Markers {
 				categories = markerCategories;
 			} else {
 				categories = EMPTY_CATEGORY_ARRAY;
+				groupedBy = null;
+				categoryGroups = new MarkerGroupingEntry[0];
 			}
 
 			if (monitor.isCanceled()) {
@@ -147,6 +163,8 @@ class Markers {
 		MarkerCategory lastCategory = null;
 		try {
 			inChange = true;
+			sortedFully = false;
+			boolean sortedAll = true;
 			if (builder.isShowingHierarchy()) {
 				Comparator<MarkerItem> comparator = markerComparator.getFieldsComparator();
 				for (MarkerCategory category : categories) {
@@ -158,6 +176,7 @@ class Markers {
 					category.resetChildren(); // reset cached children
 					int avaliable = category.end - category.start + 1;
 					int effLimit = getShowingLimit(avaliable);
+					sortedAll &= effLimit >= avaliable;
 					MarkerSortUtil.sortStartingKElement(markerEntryArray,
 							comparator, category.start, category.end, effLimit,
 							monitor);
@@ -168,12 +187,14 @@ class Markers {
 				}
 				int avaialble = markerEntryArray.length - 1;
 				int effLimit = getShowingLimit(avaialble);
+				sortedAll = effLimit >= avaialble;
 				MarkerSortUtil.sortStartingKElement(markerEntryArray,
 						markerComparator, effLimit, monitor);
 			}
 			if (monitor.isCanceled()) {
 				return false;
 			}
+			sortedFully = sortedAll;
 			monitor.worked(50);
 			return true;
 		} catch (IllegalArgumentException e) {
@@ -219,18 +240,211 @@ class Markers {
 				builder.getCategoryGroup(), newMarkers.length - 1, monitor);
 		int start = 0;
 		MarkerCategory[] markerCategories = new MarkerCategory[boundaryInfoMap.size()];
+		MarkerGroupingEntry[] groups = new MarkerGroupingEntry[markerCategories.length];
 		int i = 0;
 		int end = 0;
 		for (Entry<MarkerGroupingEntry, Integer> entry : boundaryInfoMap.entrySet()) {
 			end = entry.getValue();
+			groups[i] = entry.getKey();
 			markerCategories[i++] = new MarkerCategory(this, start, end,
 					builder.getCategoryGroup().getMarkerField()
 							.getValue(newMarkers[start]));
 			start = end + 1;
 		}
+		if (!monitor.isCanceled()) {
+			groupedBy = builder.getCategoryGroup();
+			categoryGroups = groups;
+		}
 		return markerCategories;
 	}
 
+	/**
+	 * Update the sorted and grouped marker entries with the markers changed
+	 * since the last update, instead of collecting, grouping and sorting all
+	 * the markers again. Each added entry is placed with a binary search, i.e.
+	 * with O(log n) comparisons; the other entries are only copied.
+	 *
+	 * @param removedMarkers
+	 *            the markers whose entries are removed, this includes the
+	 *            changed markers
+	 * @param addedEntries
+	 *            the entries of the added and changed markers matching the
+	 *            filters
+	 * @return <code>false</code> if the markers must be collected again
+	 *         instead
+	 */
+	synchronized boolean updateWithDelta(Set<IMarker> removedMarkers, Collection<MarkerEntry> addedEntries,
+			IProgressMonitor monitor) {
+		MarkerGroup group = builder.getCategoryGroup();
+		if (monitor.isCanceled() || categoryGroups == null || group != groupedBy) {
+			return false;
+		}
+		boolean initialVal = inChange;
+		try {
+			inChange = true;
+			MarkerComparator markerComparator = builder.getComparator();
+			Comparator<MarkerItem> comparator = group == null ? markerComparator
+					: markerComparator.getFieldsComparator();
+
+			// copy the kept entries, by group
+			MarkerEntry[] entries = markerEntryArray;
+			MarkerEntry[] kept = new MarkerEntry[entries.length];
+			int keptCount = 0;
+			TreeMap<MarkerGroupingEntry, DeltaSegment> segments;
+			DeltaSegment all = null;
+			if (group == null) {
+				segments = null;
+				all = new DeltaSegment(null, 0);
+				keptCount = keepEntries(entries, 0, entries.length, removedMarkers, kept, 0);
+				all.end = keptCount;
+			} else {
+				segments = new TreeMap<>(group.getEntriesComparator());
+				MarkerCategory[] oldCategories = categories;
+				for (int i = 0; i < oldCategories.length; i++) {
+					DeltaSegment segment = new DeltaSegment(oldCategories[i].getName(), keptCount);
+					keptCount = keepEntries(entries, oldCategories[i].start,
+							Math.min(oldCategories[i].end + 1, entries.length), removedMarkers, kept, keptCount);
+					segment.end = keptCount;
+					segments.put(categoryGroups[i], segment);
+				}
+			}
+			if (!sortedFully) {
+				// only the shown entries were sorted, sort the others once
+				for (DeltaSegment segment : group == null ? List.of(all) : segments.values()) {
+					Arrays.sort(kept, segment.start, segment.end, comparator);
+					for (int i = segment.start; i < segment.end; i++) {
+						kept[i].clearCache();
+					}
+				}
+			}
+
+			// find the group of the added entries
+			int addedCount = 0;
+			for (MarkerEntry entry : addedEntries) {
+				DeltaSegment segment = all;
+				if (group != null) {
+					IMarker marker = entry.getMarker();
+					MarkerGroupingEntry groupingEntry;
+					try {
+						groupingEntry = group.findGroupValue(marker.getType(), marker);
+					} catch (CoreException e) {
+						entry.checkIfMarkerStale();
+						continue;
+					}
+					segment = segments.get(groupingEntry);
+					if (segment == null) {
+						segment = new DeltaSegment(group.getMarkerField().getValue(entry), 0);
+						segments.put(groupingEntry, segment);
+					}
+				}
+				segment.added.add(entry);
+				addedCount++;
+			}
+
+			// merge the added entries into the kept ones
+			MarkerEntry[] newEntries = new MarkerEntry[keptCount + addedCount];
+			List<MarkerCategory> newCategories = new ArrayList<>();
+			List<MarkerGroupingEntry> newGroups = new ArrayList<>();
+			int position = 0;
+			if (group == null) {
+				position = all.merge(kept, comparator, newEntries, position);
+			} else {
+				for (Entry<MarkerGroupingEntry, DeltaSegment> entry : segments.entrySet()) {
+					int start = position;
+					position = entry.getValue().merge(kept, comparator, newEntries, position);
+					if (position > start) {
+						newCategories.add(new MarkerCategory(this, start, position - 1, entry.getValue().name));
+						newGroups.add(entry.getKey());
+					}
+				}
+			}
+			for (MarkerEntry entry : addedEntries) {
+				entry.clearCache();
+			}
+			MarkerEntry.clearCollationCache();
+
+			if (markerToEntryMap != null) {
+				markerToEntryMap.clear();
+				markerToEntryMap = null;
+			}
+			markerCounts = null;
+			markerEntryArray = position == newEntries.length ? newEntries : Arrays.copyOf(newEntries, position);
+			categories = newCategories.toArray(EMPTY_CATEGORY_ARRAY);
+			categoryGroups = newGroups.toArray(new MarkerGroupingEntry[newGroups.size()]);
+			sortedFully = true;
+			return true;
+		} catch (IllegalArgumentException e) {
+			// broken comparator, see sortMarkerEntries
+			IDEWorkbenchPlugin.log("Bug 371586: broken comparator", e); //$NON-NLS-1$
+			return false;
+		} finally {
+			inChange = initialVal;
+		}
+	}
+
+	/**
+	 * Copy the entries of [start, end) whose marker is not removed to kept.
+	 *
+	 * @return the new number of kept entries
+	 */
+	private static int keepEntries(MarkerEntry[] entries, int start, int end, Set<IMarker> removedMarkers,
+			MarkerEntry[] kept, int keptCount) {
+		for (int i = start; i < end; i++) {
+			IMarker marker = entries[i].getMarker();
+			if (marker != null && !removedMarkers.contains(marker)) {
+				kept[keptCount++] = entries[i];
+			}
+		}
+		return keptCount;
+	}
+
+	/**
+	 * The sorted kept entries of a category, and the entries added to it.
+	 */
+	private static final class DeltaSegment {
+		final String name;
+		final int start;
+		int end;
+		final List<MarkerEntry> added = new ArrayList<>();
+
+		DeltaSegment(String name, int start) {
+			this.name = name;
+			this.start = start;
+			this.end = start;
+		}
+
+		/**
+		 * Copy the kept entries of the segment and its added entries in sorted
+		 * order to result.
+		 *
+		 * @return the position after the last copied entry
+		 */
+		int merge(MarkerEntry[] kept, Comparator<MarkerItem> comparator, MarkerEntry[] result, int position) {
+			added.sort(comparator);
+			int next = start;
+			for (MarkerEntry entry : added) {
+				// after the equal entries, as if it was appended before sorting
+				int low = next;
+				int high = end;
+				while (low < high) {
+					int middle = (low + high) >>> 1;
+					if (comparator.compare(kept[middle], entry) <= 0) {
+						low = middle + 1;
+					} else {
+						high = middle;
+					}
+					kept[middle].clearCache();
+				}
+				System.arraycopy(kept, next, result, position, low - next);
+				position += low - next;
+				result[position++] = entry;
+				next = low;
+			}
+			System.arraycopy(kept, next, result, position, end - next);
+			return position + end - next;
+		}
+	}
+
 	/**
 	 * Sorts/groups the markers in O(N) comparisons and returns the boundary
 	 * indices in the map. The O(N) complexity requires the use of a few data
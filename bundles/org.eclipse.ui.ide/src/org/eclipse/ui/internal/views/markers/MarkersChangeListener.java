@@ -172,10 +172,7 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * of the markers that were gathered initially, and keeps them synched at
 	 * any point with the markers of interest in Workspace. Unfortunately marker
 	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * marker deltas is not possible, see {@link IncrementUpdateJob}.
 	 */
 	private void handleIncrementalChange(IResourceChangeEvent event) {
 		IMarkerDelta[] markerDeltas = event.findMarkerDeltas(null, true);
@@ -217,7 +214,6 @@ class MarkersChangeListener implements IResourceChangeListener {
 		if (removed.size() > 0 || added.size() > 0 || changed.size() > 0) {
 			MarkerUpdate update = new MarkerUpdate(added, removed, changed);
 			builder.incrementalUpdate(update);
-			builder.getUpdateScheduler().scheduleUpdate();
 		} else {
 			handleNoMarkerChange();
 		}
@@ -522,6 +518,18 @@ class MarkerUpdateScheduler {
 		// updateTimer.reset();
 	}
 
+	/**
+	 * Schedule the update job to apply the queued marker deltas, without
+	 * cancelling it, see {@link CachedMarkerBuilder#incrementalUpdate}.
+	 *
+	 * @param clean
+	 *            <code>true</code> if the markers must be collected again
+	 */
+	void scheduleIncrementalUpdate(boolean clean, boolean[] changeFlags) {
+		builder.setBuilding(true);
+		updateJob = builder.scheduleUpdateJob(SHORT_DELAY, clean, changeFlags);
+	}
+
 	/**
 	 * Schedule marker update.
 	 */
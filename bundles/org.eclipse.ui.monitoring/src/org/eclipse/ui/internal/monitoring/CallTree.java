@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates stack samples into a tree of calls, the root being the outermost frame. Each node
+ * counts the samples whose innermost frame it is, which is the information needed to draw
+ * a flame graph. Frames are identified by their class and method names, ignoring line numbers.
+ * <p>
+ * The number of nodes is bounded. Once the limit is reached, a sample whose stack is not in the
+ * tree yet is counted on the deepest node matching its stack.
+ * </p>
+ */
+public class CallTree {
+	private static class Node {
+		final String frame;
+		Map<String, Node> children;
+		long selfCount;
+
+		Node(String frame) {
+			this.frame = frame;
+		}
+	}
+
+	private final int maxNodes;
+	private final Node root = new Node(null);
+	private int nodeCount;
+	private long sampleCount;
+	private long truncatedSampleCount;
+
+	/**
+	 * @param maxNodes the maximum number of nodes of the tree
+	 */
+	public CallTree(int maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * Adds a stack sample to the tree.
+	 *
+	 * @param stack the frames of the sample, innermost frame first, as returned by
+	 *     {@link Thread#getStackTrace()}
+	 */
+	public synchronized void addSample(StackTraceElement[] stack) {
+		Node node = root;
+		for (int i = stack.length; --i >= 0;) {
+			String frame = stack[i].getClassName() + '.' + stack[i].getMethodName();
+			Node child = node.children == null ? null : node.children.get(frame);
+			if (child == null) {
+				if (nodeCount >= maxNodes) {
+					truncatedSampleCount++;
+					break;
+				}
+				if (node.children == null) {
+					node.children = new HashMap<>(4);
+				}
+				child = new Node(frame);
+				node.children.put(frame, child);
+				nodeCount++;
+			}
+			node = child;
+		}
+		node.selfCount++;
+		sampleCount++;
+	}
+
+	/**
+	 * Writes the tree in the collapsed stack format used by flame graph tools: one line per
+	 * distinct stack, made of the frames from the outermost to the innermost one separated by
+	 * semicolons, followed by a space and the number of samples of the stack.
+	 *
+	 * @param out the output to write to
+	 */
+	public synchronized void writeCollapsedStacks(Appendable out) throws IOException {
+		List<String> path = new ArrayList<>();
+		writeCollapsedStacks(root, path, out);
+	}
+
+	private static void writeCollapsedStacks(Node node, List<String> path, Appendable out)
+			throws IOException {
+		if (node.selfCount > 0 && !path.isEmpty()) {
+			out.append(String.join(";", path)).append(' ') //$NON-NLS-1$
+					.append(Long.toString(node.selfCount)).append('\n');
+		}
+		if (node.children != null) {
+			for (Node child : node.children.values()) {
+				path.add(child.frame);
+				writeCollapsedStacks(child, path, out);
+				path.remove(path.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * Removes all the samples.
+	 */
+	public synchronized void clear() {
+		root.children = null;
+		root.selfCount = 0;
+		nodeCount = 0;
+		sampleCount = 0;
+		truncatedSampleCount = 0;
+	}
+
+	/**
+	 * Returns the number of nodes of the tree, not counting the root.
+	 */
+	public synchronized int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Returns the number of samples added to the tree.
+	 */
+	public synchronized long getSampleCount() {
+		return sampleCount;
+	}
+
+	/**
+	 * Returns the number of samples counted on a shorter stack because the tree had reached its
+	 * maximum number of nodes.
+	 */
+	public synchronized long getTruncatedSampleCount() {
+		return truncatedSampleCount;
+	}
+}
@@ -34,10 +34,18 @@ import org.eclipse.ui.monitoring.UiFreezeEvent;
 
 /**
  * Writes {@link UiFreezeEvent}s to the Eclipse error log.
+ * <p>
+ * Freezes with the same stack are logged with their stack samples only the first time they
+ * occur. Their repetitions are summarized by a short entry each time their number reaches
+ * a power of two.
+ * </p>
  */
 public class DefaultUiFreezeEventLogger implements IUiFreezeEventLogger {
 	private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault()); //$NON-NLS-1$
+	/** Maximum number of distinct freeze stacks remembered during a session. */
+	private static final int MAX_CLUSTERS = 1000;
 	private final long longEventErrorThresholdMillis;
+	private final FreezeClusters clusters;
 
 	private static class StackTrace extends Throwable {
 		private static final long serialVersionUID = -2829405667536819137L;
@@ -60,7 +68,18 @@ public class DefaultUiFreezeEventLogger implements IUiFreezeEventLogger {
 	}
 
 	public DefaultUiFreezeEventLogger(long longEventErrorThresholdMillis) {
+		this(longEventErrorThresholdMillis, null);
+	}
+
+	/**
+	 * @param longEventErrorThresholdMillis the duration of the freezes logged as errors
+	 * @param ignoredFrames the filter of the stack frames not used to tell whether two freezes
+	 *     have the same stack, or {@code null}
+	 */
+	public DefaultUiFreezeEventLogger(long longEventErrorThresholdMillis,
+			FilterHandler ignoredFrames) {
 		this.longEventErrorThresholdMillis = longEventErrorThresholdMillis;
+		this.clusters = new FreezeClusters(ignoredFrames, MAX_CLUSTERS);
 	}
 
 	/**
@@ -72,15 +91,25 @@ public class DefaultUiFreezeEventLogger implements IUiFreezeEventLogger {
 	public void log(UiFreezeEvent event) {
 		long lastTimestamp = event.getStartTimestamp();
 		String startTime = dateFormat.format(new Date(lastTimestamp).toInstant());
+		long duration = event.getTotalDuration();
+		StackSample[] stackTraceSamples = event.getStackTraceSamples();
+
+		if (stackTraceSamples.length != 0 && !event.isStillRunning()) {
+			FreezeClusters.Cluster cluster = clusters.add(event);
+			int count = cluster.getCount();
+			if (count > 1) {
+				if ((count & (count - 1)) == 0) {
+					logRepetition(cluster, duration, startTime);
+				}
+				return;
+			}
+		}
 
 		String template = event.isStillRunning()
 				? Messages.DefaultUiFreezeEventLogger_ui_freeze_ongoing_header_2
 				: Messages.DefaultUiFreezeEventLogger_ui_freeze_finished_header_2;
-		long duration = event.getTotalDuration();
-		String format = duration >= 100000 ? "%.0f" : duration >= 10 ? "%.2g" : "%.1g"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		String header = NLS.bind(template, String.format(format, duration / 1000.0), startTime);
+		String header = NLS.bind(template, formatSeconds(duration), startTime);
 
-		StackSample[] stackTraceSamples = event.getStackTraceSamples();
 		if (stackTraceSamples.length == 0 && (event.isStarvedAwake() || event.isStarvedAsleep())) {
 			String note =
 					(event.isStarvedAwake() || event.isStarvedAsleep()) ?
@@ -122,6 +151,28 @@ public class DefaultUiFreezeEventLogger implements IUiFreezeEventLogger {
 		ILog.of(getClass()).log(loggedEvent);
 	}
 
+	/**
+	 * Logs a freeze with the same stack as an already logged one, without its stack samples.
+	 */
+	private void logRepetition(FreezeClusters.Cluster cluster, long duration, String startTime) {
+		String message = NLS.bind(Messages.DefaultUiFreezeEventLogger_ui_freeze_repeated_header_6,
+				new Object[] { formatSeconds(duration), startTime,
+						dateFormat.format(Instant.ofEpochMilli(cluster.getFirstTimestamp())),
+						cluster.getCount(), formatSeconds(cluster.getTotalDuration()),
+						formatSeconds(cluster.getMaxDuration()) });
+		int severity = cluster.getMaxDuration() >= longEventErrorThresholdMillis ?
+				IStatus.ERROR : IStatus.WARNING;
+		ILog.of(getClass()).log(new Status(severity, PreferenceConstants.PLUGIN_ID, message));
+	}
+
+	/**
+	 * Formats a duration in milliseconds as a number of seconds.
+	 */
+	private static String formatSeconds(long duration) {
+		String format = duration >= 100000 ? "%.0f" : duration >= 10 ? "%.2g" : "%.1g"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return String.format(format, duration / 1000.0);
+	}
+
 	private static IStatus createThreadStatus(ThreadInfo thread) {
 		Throwable stackTrace = new StackTrace(thread.getStackTrace());
 		StringBuilder threadText = createThreadMessage(thread);
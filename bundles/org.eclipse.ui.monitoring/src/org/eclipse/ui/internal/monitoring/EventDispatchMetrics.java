@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distribution of the time the UI thread spends dispatching SWT events, by event type. The
+ * durations are recorded while UI responsiveness monitoring is enabled, see
+ * {@link org.eclipse.ui.monitoring.PreferenceConstants#MONITORING_ENABLED}. The duration of an
+ * event includes the time spent dispatching the events nested in it.
+ */
+public final class EventDispatchMetrics {
+	private static final EventDispatchMetrics instance = new EventDispatchMetrics();
+
+	private final Map<Integer, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+	private EventDispatchMetrics() {
+	}
+
+	/**
+	 * Returns the metrics of the event loop of the workbench display.
+	 */
+	public static EventDispatchMetrics getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Records the duration of the dispatch of an event.
+	 *
+	 * @param eventType the SWT event type, e.g. {@link org.eclipse.swt.SWT#Paint}
+	 * @param micros the duration in microseconds
+	 */
+	public void recordDispatch(int eventType, long micros) {
+		LatencyHistogram histogram = histograms.get(eventType);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(eventType, type -> new LatencyHistogram());
+		}
+		histogram.recordValue(micros);
+	}
+
+	/**
+	 * Returns the histogram of the dispatch durations of the events of the given type.
+	 *
+	 * @param eventType the SWT event type
+	 * @return the histogram, or {@code null} if no event of that type was recorded
+	 */
+	public LatencyHistogram getHistogram(int eventType) {
+		return histograms.get(eventType);
+	}
+
+	/**
+	 * Returns the histograms of the dispatch durations by SWT event type.
+	 */
+	public Map<Integer, LatencyHistogram> getHistograms() {
+		return new TreeMap<>(histograms);
+	}
+
+	/**
+	 * Writes one line per event type with the number of events and the 50th, 90th, 99th
+	 * percentiles and maximum of their dispatch durations in microseconds.
+	 *
+	 * @param prefix the text written at the start of each line, e.g. a timestamp
+	 * @param out the output to write to
+	 */
+	public void writeSummary(String prefix, Appendable out) throws IOException {
+		for (Map.Entry<Integer, LatencyHistogram> entry : getHistograms().entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			out.append(String.format(
+					"%s event=%d count=%d p50=%d p90=%d p99=%d max=%d%n", //$NON-NLS-1$
+					prefix, entry.getKey(), histogram.getCount(),
+					histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+					histogram.getValueAtPercentile(99), histogram.getMaxValue()));
+		}
+	}
+
+	/**
+	 * Removes all the recorded durations.
+	 */
+	public void reset() {
+		histograms.clear();
+	}
+}
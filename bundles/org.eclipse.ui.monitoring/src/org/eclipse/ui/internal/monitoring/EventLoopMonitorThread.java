@@ -15,9 +15,14 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.monitoring;
 
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -49,6 +54,7 @@ import org.eclipse.ui.monitoring.UiFreezeEvent;
  */
 public class EventLoopMonitorThread extends Thread {
 	private static final int EVENT_HISTORY_SIZE = 100;
+	private static final long METRICS_EXPORT_INTERVAL = 60 * 1000;
 	private static final String EXTENSION_ID = "org.eclipse.ui.monitoring.logger"; //$NON-NLS-1$
 	private static final String NEW_LINE_AND_BULLET = "\n* "; //$NON-NLS-1$
 	private static final String TRACE_EVENT_MONITOR = "/debug/event_monitor"; //$NON-NLS-1$
@@ -80,6 +86,15 @@ public class EventLoopMonitorThread extends Thread {
 		public String uiThreadFilter;
 		/** @see org.eclipse.ui.monitoring.PreferenceConstants#NONINTERESTING_THREAD_FILTER */
 		public String noninterestingThreadFilter;
+		/**
+		 * Interval between two samples of the UI thread taken by the {@link UiThreadProfiler},
+		 * zero if the profiler is disabled.
+		 */
+		public int profilerSampleInterval;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILER_FILE */
+		public String profilerFile;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#METRICS_FILE */
+		public String metricsFile;
 
 		/**
 		 * Checks if the values of parameters for UI responsiveness monitoring are valid.
@@ -135,6 +150,14 @@ public class EventLoopMonitorThread extends Thread {
 		private int[] nestingLevelStack = new int[64];
 		private int nestingLevelStackSize;
 
+		/**
+		 * The start times in nanoseconds of the events being dispatched, used to record their
+		 * durations in {@link EventDispatchMetrics}. Unlike {@link #nestingLevel}, the depth is
+		 * not reset by external event dispatch.
+		 */
+		private long[] dispatchStartTimes = new long[64];
+		private int dispatchDepth;
+
 		@Override
 		public void handleEvent(Event event) {
 			/*
@@ -170,6 +193,10 @@ public class EventLoopMonitorThread extends Thread {
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
+				if (dispatchDepth < dispatchStartTimes.length) {
+					dispatchStartTimes[dispatchDepth] = System.nanoTime();
+				}
+				dispatchDepth++;
 				// Log a long interval, start the timer.
 				handleEventTransition(true, true);
 				break;
@@ -182,6 +209,10 @@ public class EventLoopMonitorThread extends Thread {
 					// started listening to SWT events.
 					nestingLevel = 0;
 				}
+				if (dispatchDepth > 0 && --dispatchDepth < dispatchStartTimes.length) {
+					long duration = System.nanoTime() - dispatchStartTimes[dispatchDepth];
+					EventDispatchMetrics.getInstance().recordDispatch(event.detail, duration / 1000);
+				}
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
@@ -358,6 +389,10 @@ public class EventLoopMonitorThread extends Thread {
 	private final long uiThreadId;
 	private final Object sleepMonitor;
 	private final boolean logToErrorLog;
+	private final int profilerSampleInterval;
+	private volatile UiThreadProfiler profiler;
+	private Path profilerFile;
+	private Path metricsFile;
 	private EventHistory eventHistory;
 	private ThreadMXBean threadMXBean;
 	private boolean dumpLockedMonitors;
@@ -393,6 +428,13 @@ public class EventLoopMonitorThread extends Thread {
 		allThreadsSampleInterval = longEventErrorThreshold * 2 / 3;
 		deadlockThreshold = args.deadlockThreshold;
 		logToErrorLog = args.logToErrorLog;
+		profilerSampleInterval = args.profilerSampleInterval;
+		if (args.profilerFile != null && !args.profilerFile.isEmpty()) {
+			profilerFile = Paths.get(args.profilerFile);
+		}
+		if (args.metricsFile != null && !args.metricsFile.isEmpty()) {
+			metricsFile = Paths.get(args.metricsFile);
+		}
 		uiThreadFilter = new FilterHandler(args.uiThreadFilter);
 		noninterestingThreadFilter = new FilterHandler(args.noninterestingThreadFilter);
 		sleepMonitor = new Object();
@@ -409,9 +451,20 @@ public class EventLoopMonitorThread extends Thread {
 			display.removeListener(SWT.PreExternalEventDispatch, eventLoopState);
 			display.removeListener(SWT.PostExternalEventDispatch, eventLoopState);
 		}
+		UiThreadProfiler currentProfiler = profiler;
+		if (currentProfiler != null) {
+			currentProfiler.shutdown();
+		}
 		wakeUp();
 	}
 
+	/**
+	 * Returns the profiler of the UI thread, or {@code null} if profiling is disabled.
+	 */
+	public UiThreadProfiler getProfiler() {
+		return profiler;
+	}
+
 	/**
 	 * For testing only.
 	 */
@@ -449,7 +502,8 @@ public class EventLoopMonitorThread extends Thread {
 	@Override
 	public void run() {
 		if (logToErrorLog) {
-			defaultLogger = new DefaultUiFreezeEventLogger(longEventErrorThreshold);
+			defaultLogger = new DefaultUiFreezeEventLogger(longEventErrorThreshold,
+					noninterestingThreadFilter);
 		}
 
 		loadLoggerExtensions();
@@ -464,6 +518,16 @@ public class EventLoopMonitorThread extends Thread {
 		dumpLockedSynchronizers = threadMXBean.isSynchronizerUsageSupported();
 		boolean contentionMonitoringSupported = threadMXBean.isThreadContentionMonitoringSupported();
 
+		if (profilerSampleInterval > 0 && !cancelled.get()) {
+			profiler = new UiThreadProfiler(uiThreadId, profilerSampleInterval,
+					() -> eventStartOrResumeTime != 0, UiThreadProfiler.MAX_CALL_TREE_NODES,
+					profilerFile);
+			profiler.start();
+			if (cancelled.get()) {
+				profiler.shutdown();
+			}
+		}
+
 		/*
 		 * If this event loop starts in the middle of a UI freeze, it will succeed in capturing
 		 * the portion of that UI freeze that it sees.
@@ -492,6 +556,7 @@ public class EventLoopMonitorThread extends Thread {
 		display.asyncExec(this::registerDisplayListeners);
 
 		long currTime = getTimestamp();
+		long exportMetricsAt = currTime + METRICS_EXPORT_INTERVAL;
 
 		while (!cancelled.get()) {
 			long sleepFor;
@@ -641,10 +706,32 @@ public class EventLoopMonitorThread extends Thread {
 				resetStalledEventState = true;
 			}
 
+			if (metricsFile != null && currTime >= exportMetricsAt) {
+				exportMetrics(currTime);
+				exportMetricsAt = currTime + METRICS_EXPORT_INTERVAL;
+			}
+
 			lastEventStartOrResumeTime = currEventStartOrResumeTime;
 		}
 	}
 
+	/**
+	 * Appends the summary of the {@link EventDispatchMetrics} to the metrics file.
+	 */
+	private void exportMetrics(long timestamp) {
+		StringBuilder summary = new StringBuilder();
+		try {
+			EventDispatchMetrics.getInstance().writeSummary(
+					DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(timestamp)), summary);
+			Files.writeString(metricsFile, summary, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			MonitoringPlugin.logError(
+					NLS.bind(Messages.EventLoopMonitorThread_metrics_export_error_1, metricsFile), e);
+			metricsFile = null; // Don't retry.
+		}
+	}
+
 	private ThreadInfo[] captureThreadStacks(boolean dumpAllThreads) {
 		if (dumpAllThreads) {
 			ThreadInfo[] threadStacks =
@@ -774,6 +861,8 @@ public class EventLoopMonitorThread extends Thread {
 			tracer.trace("Logging " + event + "Prior events:\n" + eventHistory.extractAndClear()); //$NON-NLS-1$//$NON-NLS-2$
 		}
 
+		UiFreezeRecorder.record(event);
+
 		if (logToErrorLog) {
 			defaultLogger.log(event);
 		}
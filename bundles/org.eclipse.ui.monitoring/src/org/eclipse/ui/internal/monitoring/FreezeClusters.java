@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.ui.monitoring.StackSample;
+import org.eclipse.ui.monitoring.UiFreezeEvent;
+
+/**
+ * Groups {@link UiFreezeEvent}s by the signature of the stack of the display thread, so that
+ * a freeze repeating many times during a session can be reported once together with its
+ * statistics.
+ * <p>
+ * The signature of a freeze is a hash of the frames of the display thread in its first stack
+ * sample, taken when the freeze was detected, ignoring line numbers and the frames matching
+ * the given {@link FilterHandler}. The number of clusters is bounded; the least recently seen
+ * clusters are forgotten first.
+ * </p>
+ * <p>
+ * <strong>This class is not thread safe.</strong>
+ * </p>
+ */
+public class FreezeClusters {
+	/**
+	 * Statistics of the freezes having the same signature.
+	 */
+	public static class Cluster {
+		final long firstTimestamp;
+		int count;
+		long totalDuration;
+		long maxDuration;
+
+		Cluster(long firstTimestamp) {
+			this.firstTimestamp = firstTimestamp;
+		}
+
+		/** Returns the start time of the first freeze of the cluster. */
+		public long getFirstTimestamp() {
+			return firstTimestamp;
+		}
+
+		/** Returns the number of freezes in the cluster. */
+		public int getCount() {
+			return count;
+		}
+
+		/** Returns the sum of the durations of the freezes in milliseconds. */
+		public long getTotalDuration() {
+			return totalDuration;
+		}
+
+		/** Returns the duration of the longest freeze in milliseconds. */
+		public long getMaxDuration() {
+			return maxDuration;
+		}
+	}
+
+	private final FilterHandler ignoredFrames;
+	private final Map<Long, Cluster> clusters;
+
+	/**
+	 * @param ignoredFrames the filter of the frames not contributing to the signatures,
+	 *     or {@code null}
+	 * @param maxClusters the maximum number of clusters remembered
+	 */
+	public FreezeClusters(FilterHandler ignoredFrames, int maxClusters) {
+		this.ignoredFrames = ignoredFrames;
+		this.clusters = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Cluster> eldest) {
+				return size() > maxClusters;
+			}
+		};
+	}
+
+	/**
+	 * Adds a freeze to the cluster of its signature.
+	 *
+	 * @param event the freeze, with at least one stack sample
+	 * @return the updated cluster
+	 */
+	public Cluster add(UiFreezeEvent event) {
+		Long signature = computeSignature(event.getStackTraceSamples());
+		Cluster cluster = clusters.get(signature);
+		if (cluster == null) {
+			cluster = new Cluster(event.getStartTimestamp());
+			clusters.put(signature, cluster);
+		}
+		cluster.count++;
+		cluster.totalDuration += event.getTotalDuration();
+		cluster.maxDuration = Math.max(cluster.maxDuration, event.getTotalDuration());
+		return cluster;
+	}
+
+	/**
+	 * Returns the number of clusters.
+	 */
+	public int size() {
+		return clusters.size();
+	}
+
+	/**
+	 * Forgets all the clusters.
+	 */
+	public void clear() {
+		clusters.clear();
+	}
+
+	private long computeSignature(StackSample[] samples) {
+		// The first thread of a sample is the display thread.
+		StackTraceElement[] stack = samples[0].getStackTraces()[0].getStackTrace();
+		long hash = 17;
+		for (int i = stack.length; --i >= 0;) {
+			StackTraceElement frame = stack[i];
+			if (ignoredFrames == null || !ignoredFrames.matchesFilter(frame)) {
+				hash = hash * 31 + frame.getClassName().hashCode();
+				hash = hash * 31 + frame.getMethodName().hashCode();
+			}
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in microseconds. Values are counted in buckets whose width is 1/64 of
+ * their magnitude, which keeps two significant digits for any value up to about 19 hours while
+ * using a fixed amount of memory. Recording a value is lock-free and can be done from any thread.
+ */
+public final class LatencyHistogram {
+	/** Number of buckets per power of two, except for the first 128 values. */
+	private static final int SUB_BUCKET_COUNT = 64;
+	private static final int SUB_BUCKET_BITS = 6;
+	/** Values are clamped to 2^36 - 1 microseconds. */
+	private static final long MAX_VALUE = (1L << 36) - 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(getBucketIndex(MAX_VALUE) + 1);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalValue = new LongAdder();
+	private final AtomicLong maxValue = new AtomicLong();
+
+	/**
+	 * Creates an empty histogram.
+	 */
+	public LatencyHistogram() {
+	}
+
+	private static int getBucketIndex(long value) {
+		if (value < 2 * SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = 64 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS + 1);
+		return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+	}
+
+	/** Returns the highest value counted in the bucket with the given index. */
+	private static long getHighestValue(int index) {
+		if (index < 2 * SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long subBucket = index - shift * SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param micros the duration in microseconds, negative values are counted as zero
+	 */
+	public void recordValue(long micros) {
+		long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+		counts.incrementAndGet(getBucketIndex(value));
+		totalCount.increment();
+		totalValue.add(value);
+		maxValue.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 */
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * Returns the longest recorded duration in microseconds, or zero if the histogram is empty.
+	 */
+	public long getMaxValue() {
+		return maxValue.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded durations in microseconds, or zero if the histogram is
+	 * empty.
+	 */
+	public double getMean() {
+		long count = totalCount.sum();
+		return count == 0 ? 0 : (double) totalValue.sum() / count;
+	}
+
+	/**
+	 * Returns the duration below or at which the given percentage of the recorded durations are.
+	 * The result is the highest value of the bucket holding that duration, so it is at most 1/64
+	 * above the actual duration.
+	 *
+	 * @param percentile the percentage, between 0 and 100
+	 * @return the duration in microseconds, or zero if the histogram is empty
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			count += counts.get(i);
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count));
+		long cumulativeCount = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			cumulativeCount += counts.get(i);
+			if (cumulativeCount >= rank) {
+				return Math.min(getHighestValue(i), maxValue.get());
+			}
+		}
+		return maxValue.get();
+	}
+
+	/**
+	 * Removes all the recorded durations. Durations recorded concurrently may be partially kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+		totalCount.reset();
+		totalValue.reset();
+		maxValue.set(0);
+	}
+}
@@ -27,6 +27,7 @@ final class Messages extends NLS {
 	public static String DefaultUiFreezeEventLogger_thread_header_2;
 	public static String DefaultUiFreezeEventLogger_ui_freeze_finished_header_2;
 	public static String DefaultUiFreezeEventLogger_ui_freeze_ongoing_header_2;
+	public static String DefaultUiFreezeEventLogger_ui_freeze_repeated_header_6;
 	public static String DefaultUiFreezeEventLogger_waiting_for_1;
 	public static String DefaultUiFreezeEventLogger_waiting_for_with_lock_owner_3;
 	public static String EventLoopMonitorThread_deadlock_error_1;
@@ -39,8 +40,10 @@ final class Messages extends NLS {
 	public static String EventLoopMonitorThread_logging_disabled_error;
 	public static String EventLoopMonitorThread_warning_threshold_error_1;
 	public static String EventLoopMonitorThread_max_event_loop_depth_exceeded_1;
+	public static String EventLoopMonitorThread_metrics_export_error_1;
 	public static String FilterHandler_missing_thread_error;
 	public static String MonitoringStartup_initialization_error;
+	public static String UiThreadProfiler_export_error_1;
 
 	private Messages() {
 		// Do not instantiate.
@@ -91,6 +91,10 @@ public class MonitoringStartup implements EventHandler {
 		args.noninterestingThreadFilter =
 				preferences.getString(PreferenceConstants.NONINTERESTING_THREAD_FILTER);
 		args.logToErrorLog = preferences.getBoolean(PreferenceConstants.LOG_TO_ERROR_LOG);
+		args.profilerSampleInterval =
+				preferences.getInt(PreferenceConstants.PROFILER_SAMPLE_INTERVAL_MILLIS);
+		args.profilerFile = preferences.getString(PreferenceConstants.PROFILER_FILE);
+		args.metricsFile = preferences.getString(PreferenceConstants.METRICS_FILE);
 
 		return args;
 	}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+
+/**
+ * Flight recorder event emitted by the {@link EventLoopMonitorThread} when it logs a UI freeze.
+ * The event is committed when the freeze is logged, so its own start time and duration are those
+ * of the logging; the freeze is described by its fields.
+ */
+@Name("org.eclipse.ui.monitoring.UiFreeze")
+@Label("UI Freeze")
+@Category({ "Eclipse", "UI Responsiveness" })
+@Description("Period during which the UI thread did not process events")
+@StackTrace(false)
+final class UiFreezeJfrEvent extends Event {
+	@Label("Freeze Start")
+	@Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+	long freezeStart;
+
+	@Label("Freeze Duration")
+	@Timespan(Timespan.MILLISECONDS)
+	long freezeDuration;
+
+	@Label("Still Running")
+	@Description("Whether the freeze was still ongoing when it was logged, which may indicate a deadlock")
+	boolean stillRunning;
+
+	@Label("Stack Samples")
+	int stackSampleCount;
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import org.eclipse.ui.monitoring.UiFreezeEvent;
+
+/**
+ * Records the {@link UiFreezeJfrEvent}s of the {@link EventLoopMonitorThread}. The flight recorder
+ * API is imported optionally, so the event is only used if the API can be loaded by this bundle.
+ */
+final class UiFreezeRecorder {
+	private static volatile boolean enabled = isFlightRecorderWired();
+
+	private UiFreezeRecorder() {
+	}
+
+	/**
+	 * Commits the event of a UI freeze that is logged, if a recording includes it.
+	 *
+	 * @param event the UI freeze
+	 */
+	static void record(UiFreezeEvent event) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			commit(event);
+		} catch (LinkageError e) {
+			enabled = false;
+		}
+	}
+
+	private static void commit(UiFreezeEvent event) {
+		UiFreezeJfrEvent jfrEvent = new UiFreezeJfrEvent();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.freezeStart = event.getStartTimestamp();
+			jfrEvent.freezeDuration = event.getTotalDuration();
+			jfrEvent.stillRunning = event.isStillRunning();
+			jfrEvent.stackSampleCount = event.getStackTraceSamples().length;
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, UiFreezeRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Sampling profiler of the UI thread. Periodically captures the stack of the UI thread while it
+ * dispatches an event and aggregates the samples into a {@link CallTree}, which can be exported
+ * at any time in the collapsed stack format of flame graph tools. If an output file is given, the
+ * call tree is written to it every minute and when the profiler is shut down.
+ * <p>
+ * Unlike the {@link EventLoopMonitorThread}, which only captures stacks during freezes, the
+ * profiler runs continuously, so the sampling interval should be long enough to keep its
+ * overhead low.
+ * </p>
+ */
+public class UiThreadProfiler extends Thread {
+	/** Maximum number of nodes of the call tree, which bounds the memory used by the profiler. */
+	public static final int MAX_CALL_TREE_NODES = 50_000;
+	private static final long EXPORT_INTERVAL = 60 * 1000;
+
+	private static volatile UiThreadProfiler activeProfiler;
+
+	private final long uiThreadId;
+	private final long sampleInterval;
+	private final BooleanSupplier dispatching;
+	private final CallTree callTree;
+	private Path outputFile;
+	private final Object exportLock = new Object();
+	private final AtomicBoolean cancelled = new AtomicBoolean(false);
+	private final Object sleepMonitor = new Object();
+
+	/**
+	 * @param uiThreadId the ID of the UI thread
+	 * @param sampleInterval the time between two samples in milliseconds
+	 * @param dispatching tells whether the UI thread is dispatching an event, samples of an idle
+	 *     UI thread are not recorded
+	 * @param maxNodes the maximum number of nodes of the call tree
+	 * @param outputFile the file the call tree is written to in the collapsed stack format, or
+	 *     {@code null} to not write the call tree
+	 */
+	public UiThreadProfiler(long uiThreadId, long sampleInterval, BooleanSupplier dispatching,
+			int maxNodes, Path outputFile) {
+		super("UI Thread Profiler"); //$NON-NLS-1$
+		setDaemon(true);
+		this.uiThreadId = uiThreadId;
+		this.sampleInterval = Math.max(sampleInterval, 1);
+		this.dispatching = dispatching;
+		this.callTree = new CallTree(maxNodes);
+		this.outputFile = outputFile;
+	}
+
+	/**
+	 * Returns the running profiler, or {@code null} if profiling is disabled.
+	 */
+	public static UiThreadProfiler getActiveProfiler() {
+		return activeProfiler;
+	}
+
+	/**
+	 * Returns the call tree aggregating the samples of the UI thread.
+	 */
+	public CallTree getCallTree() {
+		return callTree;
+	}
+
+	/**
+	 * Stops the profiler. The profiler thread writes the call tree to the output file, if any,
+	 * before it exits, so that the caller, usually the UI thread, does not wait for the file. The
+	 * samples remain available in the call tree.
+	 */
+	public void shutdown() {
+		cancelled.set(true);
+		if (activeProfiler == this) {
+			activeProfiler = null;
+		}
+		synchronized (sleepMonitor) {
+			sleepMonitor.notify();
+		}
+	}
+
+	/**
+	 * Replaces the contents of the output file with the call tree in the collapsed stack format.
+	 */
+	private void exportCallTree() {
+		synchronized (exportLock) {
+			if (outputFile == null) {
+				return;
+			}
+			try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+				callTree.writeCollapsedStacks(writer);
+			} catch (IOException e) {
+				MonitoringPlugin.logError(
+						NLS.bind(Messages.UiThreadProfiler_export_error_1, outputFile), e);
+				outputFile = null; // Don't retry.
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		activeProfiler = this;
+		try {
+			sample();
+		} finally {
+			if (activeProfiler == this) {
+				activeProfiler = null;
+			}
+			exportCallTree();
+		}
+	}
+
+	private void sample() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		long exportAt = System.currentTimeMillis() + EXPORT_INTERVAL;
+		while (!cancelled.get()) {
+			try {
+				synchronized (sleepMonitor) {
+					sleepMonitor.wait(sampleInterval);
+				}
+			} catch (InterruptedException e) {
+				// Wake up.
+			}
+			if (!cancelled.get() && System.currentTimeMillis() >= exportAt) {
+				exportCallTree();
+				exportAt = System.currentTimeMillis() + EXPORT_INTERVAL;
+			}
+			if (cancelled.get() || !dispatching.getAsBoolean()) {
+				continue;
+			}
+			ThreadInfo threadInfo = threadMXBean.getThreadInfo(uiThreadId, Integer.MAX_VALUE);
+			if (threadInfo == null) {
+				// The UI thread is gone.
+				break;
+			}
+			callTree.addSample(threadInfo.getStackTrace());
+		}
+	}
+}
@@ -55,7 +55,10 @@ public class MonitoringPreferenceListener implements IPropertyChangeListener {
 				&& !property.equals(PreferenceConstants.LOG_TO_ERROR_LOG)
 				&& !property.equals(PreferenceConstants.MAX_STACK_SAMPLES)
 				&& !property.equals(PreferenceConstants.UI_THREAD_FILTER)
-				&& !property.equals(PreferenceConstants.NONINTERESTING_THREAD_FILTER)) {
+				&& !property.equals(PreferenceConstants.NONINTERESTING_THREAD_FILTER)
+				&& !property.equals(PreferenceConstants.PROFILER_SAMPLE_INTERVAL_MILLIS)
+				&& !property.equals(PreferenceConstants.PROFILER_FILE)
+				&& !property.equals(PreferenceConstants.METRICS_FILE)) {
 			return;
 		}
 
@@ -58,6 +58,22 @@ public class PreferenceConstants {
 	 * message if all stack frames of the thread match the filter.
 	 */
 	public static final String NONINTERESTING_THREAD_FILTER = "noninteresting_thread_filter"; //$NON-NLS-1$
+	/**
+	 * Interval in milliseconds between two samples of the UI thread taken by the continuous
+	 * profiler of the UI thread, or zero to disable the profiler.
+	 */
+	public static final String PROFILER_SAMPLE_INTERVAL_MILLIS = "profiler_sample_interval"; //$NON-NLS-1$
+	/**
+	 * Path of a file to which the call tree of the profiler of the UI thread is written in the
+	 * collapsed stack format every minute and when the profiler stops, or an empty string to not
+	 * write the call tree.
+	 */
+	public static final String PROFILER_FILE = "profiler_file"; //$NON-NLS-1$
+	/**
+	 * Path of a file to which a summary of the time spent dispatching SWT events is appended
+	 * every minute, or an empty string to not write the summary.
+	 */
+	public static final String METRICS_FILE = "metrics_file"; //$NON-NLS-1$
 
 	private PreferenceConstants() {}
 }
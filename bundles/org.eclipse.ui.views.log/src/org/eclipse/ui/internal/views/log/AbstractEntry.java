@@ -16,6 +16,7 @@ package org.eclipse.ui.internal.views.log;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -27,7 +28,8 @@ import org.eclipse.ui.model.IWorkbenchAdapter;
 public abstract class AbstractEntry extends PlatformObject implements IWorkbenchAdapter {
 
 	/**
-	 * The collection of direct children of this entry
+	 * The collection of direct children of this entry, in the order they were
+	 * added. They are returned from the most recently added one.
 	 */
 	private List<AbstractEntry> children = new ArrayList<>();
 	protected Object parent;
@@ -38,14 +40,18 @@ public abstract class AbstractEntry extends PlatformObject implements IWorkbench
 	 */
 	public void addChild(AbstractEntry child) {
 		if (child != null) {
-			children.add(0, child);
+			children.add(child);
 			child.setParent(this);
 		}
 	}
 
 	@Override
 	public AbstractEntry[] getChildren(Object parent) {
-		return children.toArray(new AbstractEntry[children.size()]);
+		AbstractEntry[] result = new AbstractEntry[children.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = children.get(result.length - 1 - i);
+		}
+		return result;
 	}
 
 	/**
@@ -92,7 +98,7 @@ public abstract class AbstractEntry extends PlatformObject implements IWorkbench
 	 * @param list the list of children to remove
 	 */
 	public void removeChildren(List<AbstractEntry> list) {
-		children.removeAll(list);
+		children.removeAll(new HashSet<>(list));
 	}
 
 	/**
@@ -16,13 +16,14 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.views.log;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.util.NLS;
 
 /**
  * Represents a given entry in the Error view
@@ -43,6 +44,12 @@ public class LogEntry extends AbstractEntry {
 	private Date fDate;
 	private String message;
 	private String stack;
+	/** The log file holding the stack, if it is read on demand. */
+	private File stackFile;
+	private long stackOffset;
+	private long stackLength;
+	/** Length of the !STACK line preceding the stack, checked before reading it. */
+	private int stackHeaderLength;
 	private LogSession session;
 
 	/**
@@ -137,13 +144,71 @@ public class LogEntry extends AbstractEntry {
 	}
 
 	/**
-	 * Returns the stack trace for this entry or <code>null</code> if there is no stack trace
+	 * Returns the stack trace for this entry or <code>null</code> if there is no stack trace.
+	 * If the stack trace cannot be read from the log file anymore, a message telling so is
+	 * returned instead.
 	 * @return the stack trace or <code>null</code>
 	 */
 	public String getStack() {
+		if (stack == null && stackFile != null) {
+			try {
+				stack = readStack();
+			} catch (IOException e) {
+				// the file may be readable again later
+				return NLS.bind(Messages.LogEntry_stackUnavailable, stackFile);
+			}
+			if (stack == null) {
+				stack = NLS.bind(Messages.LogEntry_stackUnavailable, stackFile);
+			}
+			stackFile = null;
+		}
 		return stack;
 	}
 
+	/**
+	 * Returns whether this entry has a stack trace, without reading it from the
+	 * log file if it was not read yet.
+	 * @return whether the entry has a stack trace
+	 */
+	public boolean hasStack() {
+		return stack != null || stackFile != null;
+	}
+
+	/**
+	 * Reads the stack from the log file.
+	 * @return the stack, or <code>null</code> if the file does not hold the stack
+	 *         anymore, e.g. because it was cleared or replaced since it was parsed
+	 */
+	private String readStack() throws IOException {
+		int length = (int) Math.min(stackLength, Integer.MAX_VALUE - 8 - stackHeaderLength);
+		byte[] bytes = new byte[stackHeaderLength + length];
+		try (RandomAccessFile raf = new RandomAccessFile(stackFile, "r")) { //$NON-NLS-1$
+			if (raf.length() < stackOffset + stackLength) {
+				return null;
+			}
+			raf.seek(stackOffset - stackHeaderLength);
+			raf.readFully(bytes);
+		}
+		String header = new String(bytes, 0, stackHeaderLength, StandardCharsets.UTF_8);
+		if (!header.trim().startsWith("!STACK")) { //$NON-NLS-1$
+			return null;
+		}
+		// join the lines the same way as when the stack is read with the entry
+		StringBuilder buffer = new StringBuilder(length);
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new ByteArrayInputStream(bytes, stackHeaderLength, length), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (buffer.length() > 0)
+					buffer.append(System.lineSeparator());
+				buffer.append(line);
+			}
+		} catch (IOException e) {
+			// cannot happen
+		}
+		return buffer.toString();
+	}
+
 	/**
 	 * Returns a pretty-print formatting for the date for this entry
 	 * @return the formatted date for this entry
@@ -336,6 +401,20 @@ public class LogEntry extends AbstractEntry {
 	 */
 	void setStack(String stack) {
 		this.stack = stack;
+		this.stackFile = null;
+	}
+
+	/**
+	 * Sets the location of the stack in the log file, for the stack to be read
+	 * when it is first requested. The stack follows the !STACK line of the given
+	 * length, which is checked to still be in the file before reading the stack.
+	 */
+	void setStackLocation(File file, int headerLength, long offset, long length) {
+		this.stack = null;
+		this.stackFile = file;
+		this.stackHeaderLength = headerLength;
+		this.stackOffset = offset;
+		this.stackLength = length;
 	}
 
 	/**
@@ -387,9 +466,10 @@ public class LogEntry extends AbstractEntry {
 		if (message != null) {
 			writer.println(getMessage());
 		}
-		if (stack != null) {
+		String entryStack = getStack();
+		if (entryStack != null) {
 			writer.println();
-			writer.println(stack);
+			writer.println(entryStack);
 		}
 	}
 }
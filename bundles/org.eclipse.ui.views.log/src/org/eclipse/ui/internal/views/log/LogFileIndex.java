@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Index of the offsets of the records of a log file, i.e. of its lines starting
+ * with <code>!SESSION</code> or <code>!ENTRY</code>. The file is scanned through
+ * memory mapped windows without decoding it, and only the bytes appended since
+ * the previous scan are scanned again when the index is updated, so that the
+ * tail of a huge log can be parsed from a record boundary without reading the
+ * rest of the file.
+ * <p>
+ * The index must be updated outside of the UI thread.
+ * </p>
+ */
+class LogFileIndex {
+	/** Size of the windows through which the file is mapped. */
+	private static final int MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final byte[] SESSION_PREFIX = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ENTRY_PREFIX = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	private final File file;
+	private final int windowSize;
+	private long[] recordOffsets = new long[256];
+	private final BitSet sessionRecords = new BitSet();
+	private int recordCount;
+	/** Offset of the first line not scanned yet. */
+	private long scannedLength;
+
+	LogFileIndex(File file) {
+		this(file, MAP_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates an index scanning the file through windows of the given size,
+	 * which is only smaller than the default one for testing.
+	 */
+	LogFileIndex(File file, int windowSize) {
+		this.file = file;
+		this.windowSize = windowSize;
+	}
+
+	File getFile() {
+		return file;
+	}
+
+	/**
+	 * Scans the lines appended to the file since the previous update. The index
+	 * is rebuilt if the file was truncated or replaced, i.e. if it is smaller
+	 * or the last indexed record is not found anymore. The last line is only
+	 * scanned once it is terminated.
+	 *
+	 * @return <code>true</code> if the index was rebuilt
+	 */
+	synchronized boolean update() throws IOException {
+		long length = file.length();
+		boolean rebuilt = false;
+		if (length < scannedLength) {
+			clear();
+			rebuilt = true;
+		}
+		if (length == scannedLength) {
+			return rebuilt;
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+				FileChannel channel = raf.getChannel()) {
+			if (recordCount > 0 && !isRecordAt(channel, recordCount - 1)) {
+				// replaced by a file at least as long, e.g. when the log was rotated
+				clear();
+				rebuilt = true;
+			}
+			length = channel.size();
+			long position = scannedLength;
+			while (position < length) {
+				long size = Math.min(length - position, windowSize);
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+				int lineStart = 0;
+				for (int i = 0; i < size; i++) {
+					if (buffer.get(i) == '\n') {
+						indexLine(buffer, lineStart, i, position);
+						lineStart = i + 1;
+					}
+				}
+				if (lineStart == 0) {
+					// No line ends in the window. Unless this is the end of the file,
+					// skip the window, since it is the middle of a huge line.
+					if (position + size == length) {
+						break;
+					}
+					position += size;
+				} else {
+					position += lineStart;
+				}
+				scannedLength = position;
+			}
+		}
+		return rebuilt;
+	}
+
+	/**
+	 * Returns whether the file still holds the given record at its offset.
+	 */
+	private boolean isRecordAt(FileChannel channel, int record) throws IOException {
+		byte[] prefix = sessionRecords.get(record) ? SESSION_PREFIX : ENTRY_PREFIX;
+		ByteBuffer buffer = ByteBuffer.allocate(prefix.length);
+		long offset = recordOffsets[record];
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, offset + buffer.position()) < 0) {
+				return false;
+			}
+		}
+		return Arrays.equals(buffer.array(), prefix);
+	}
+
+	private void indexLine(MappedByteBuffer buffer, int start, int end, long windowOffset) {
+		boolean session = startsWith(buffer, start, end, SESSION_PREFIX);
+		if (session || startsWith(buffer, start, end, ENTRY_PREFIX)) {
+			if (recordCount == recordOffsets.length) {
+				recordOffsets = Arrays.copyOf(recordOffsets, recordCount * 2);
+			}
+			if (session) {
+				sessionRecords.set(recordCount);
+			}
+			recordOffsets[recordCount++] = windowOffset + start;
+		}
+	}
+
+	private static boolean startsWith(MappedByteBuffer buffer, int start, int end, byte[] prefix) {
+		if (end - start < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (buffer.get(start + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	synchronized void clear() {
+		recordCount = 0;
+		sessionRecords.clear();
+		scannedLength = 0;
+	}
+
+	/**
+	 * Returns the length of the part of the file that was indexed, which ends
+	 * with a complete line.
+	 */
+	synchronized long getIndexedLength() {
+		return scannedLength;
+	}
+
+	synchronized int getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the offset of the first record starting at or after the given
+	 * offset, or the indexed length if there is none.
+	 */
+	synchronized long getRecordOffsetFrom(long offset) {
+		int index = Arrays.binarySearch(recordOffsets, 0, recordCount, offset);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return index < recordCount ? recordOffsets[index] : scannedLength;
+	}
+
+	/**
+	 * Returns the offset of the last <code>!SESSION</code> record, or -1 if there
+	 * is none.
+	 */
+	synchronized long getLastSessionOffset() {
+		int index = sessionRecords.previousSetBit(recordCount - 1);
+		return index < 0 ? -1 : recordOffsets[index];
+	}
+}
@@ -35,6 +35,166 @@ class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
+	private final File file;
+	/** The filter of the entries, or <code>null</code> if all are kept. */
+	private final IMemento memento;
+	private final boolean showAllSessions;
+	private final List<LogEntry> entries;
+
+	// state of the parser, which is kept between two incremental updates
+	private final ArrayList<LogEntry> parents = new ArrayList<>();
+	private LogEntry current;
+	private LogSession session;
+	private LogSession currentSession;
+	private int writerState = UNKNOWN_STATE;
+	private StringWriter swriter;
+	private PrintWriter writer;
+	/** The first line of the message of the current entry, before its continuation lines. */
+	private String messageStart;
+	/** Offset of the stack of the current entry, when it is read on demand. */
+	private long stackOffset = -1;
+	/** Length of the !STACK line preceding the stack read on demand. */
+	private int stackHeaderLength;
+	/** Whether the entries were cleared because a more recent session was found. */
+	private boolean entriesCleared;
+
+	// state of an incremental reader
+	private LogFileIndex index;
+	private long maxLogTailSizeInMegaByte;
+	private long maxTailSizeInBytes;
+	/** Offset of the start of the parsed part of the file. */
+	private long parsedStart;
+	/** Offset of the end of the parsed part of the file, or -1 before the first update. */
+	private long parsedEnd = -1;
+
+	private LogReader(File file, List<LogEntry> entries, IMemento memento, boolean showAllSessions) {
+		this.file = file;
+		this.entries = entries;
+		this.memento = memento;
+		this.showAllSessions = showAllSessions;
+	}
+
+	/**
+	 * Source of the lines of a log file.
+	 */
+	private interface LineSource extends Closeable {
+		/**
+		 * Returns the next line, without its terminator, or <code>null</code> at the
+		 * end of the input.
+		 */
+		String readLine() throws IOException;
+
+		/**
+		 * Returns the offset in the file of the start of the line returned last, or
+		 * of the end of the input once it is reached, or -1 if offsets are unknown.
+		 */
+		long getLineOffset();
+
+		/**
+		 * Returns the offset in the file following the line returned last, or -1 if
+		 * offsets are unknown.
+		 */
+		long getNextLineOffset();
+	}
+
+	/**
+	 * Reads lines from a {@link BufferedReader}, without knowing their offsets.
+	 */
+	private static class ReaderLineSource implements LineSource {
+		private final BufferedReader reader;
+
+		ReaderLineSource(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public String readLine() throws IOException {
+			return reader.readLine();
+		}
+
+		@Override
+		public long getLineOffset() {
+			return -1;
+		}
+
+		@Override
+		public long getNextLineOffset() {
+			return -1;
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Reads the UTF-8 lines of a region of a file, keeping track of their offsets.
+	 */
+	private static class FileLineSource implements LineSource {
+		private final InputStream in;
+		private final long end;
+		private long lineOffset;
+		private long offset;
+		private byte[] line = new byte[256];
+
+		FileLineSource(File file, long start, long end) throws IOException {
+			FileInputStream fileIn = new FileInputStream(file);
+			try {
+				fileIn.getChannel().position(start);
+			} catch (IOException e) {
+				fileIn.close();
+				throw e;
+			}
+			this.in = new BufferedInputStream(fileIn, 64 * 1024);
+			this.end = end;
+			this.lineOffset = start;
+			this.offset = start;
+		}
+
+		@Override
+		public String readLine() throws IOException {
+			lineOffset = offset;
+			if (offset >= end) {
+				return null;
+			}
+			int length = 0;
+			while (offset < end) {
+				int c = in.read();
+				if (c < 0) {
+					break;
+				}
+				offset++;
+				if (c == '\n') {
+					break;
+				}
+				if (length == line.length) {
+					line = Arrays.copyOf(line, length * 2);
+				}
+				line[length++] = (byte) c;
+			}
+			if (length > 0 && line[length - 1] == '\r') {
+				length--;
+			}
+			return new String(line, 0, length, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public long getLineOffset() {
+			return lineOffset;
+		}
+
+		@Override
+		public long getNextLineOffset() {
+			return offset;
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
 	public static LogSession parseLogFile(File file, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
 			IMemento memento) {
 		if (!file.exists())
@@ -44,152 +204,300 @@ class LogReader {
 				&& memento.getInteger(LogView.P_LOG_LIMIT).intValue() == 0)
 			return null;
 
-		ArrayList<LogEntry> parents = new ArrayList<>();
-		LogEntry current = null;
-		LogSession session = null;
-		int writerState = UNKNOWN_STATE;
-		StringWriter swriter = null;
-		PrintWriter writer = null;
-		int state = UNKNOWN_STATE;
-		LogSession currentSession = null;
 		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
 				: ONE_MEGA_BYTE_IN_BYTES;
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
-			for (;;) {
-				String line0 = reader.readLine();
-				if (line0 == null)
-					break;
-				String line = line0.trim();
-
-				if (line.startsWith(LogSession.SESSION)) {
-					state = SESSION_STATE;
-				} else if (line.startsWith("!ENTRY")) { //$NON-NLS-1$
-					state = ENTRY_STATE;
-				} else if (line.startsWith("!SUBENTRY")) { //$NON-NLS-1$
-					state = SUBENTRY_STATE;
-				} else if (line.startsWith("!MESSAGE")) { //$NON-NLS-1$
-					state = MESSAGE_STATE;
-				} else if (line.startsWith("!STACK")) { //$NON-NLS-1$
-					state = STACK_STATE;
-				} else
-					state = TEXT_STATE;
-
-				if (state == TEXT_STATE) {
-					if (writer != null) {
-						if (swriter.getBuffer().length() > 0)
-							writer.println();
-						writer.print(line0);
-					}
-					continue;
-				}
+		try (LineSource reader = new ReaderLineSource(new BufferedReader(
+				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8)))) {
+			return parse(reader, file, maxLogTailSizeInMegaByte, entries, memento);
+		} catch (IOException e) { // do nothing
+			return null;
+		}
+	}
+
+	private static LogSession parse(LineSource reader, File file, long maxLogTailSizeInMegaByte,
+			List<LogEntry> entries, IMemento memento) {
+		LogReader parser = new LogReader(file, entries, memento,
+				memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")); //$NON-NLS-1$
+		try {
+			parser.read(reader);
+		} catch (IOException e) { // do nothing
+		} finally {
+			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
+				entries.add(createTailWarningEntry(maxLogTailSizeInMegaByte, parser.currentSession));
+			}
+		}
+		return parser.currentSession;
+	}
+
+	/**
+	 * Creates a reader keeping the unfiltered entries of the tail of the log file
+	 * of the given index. Each {@link #update()} only parses the lines appended to
+	 * the file since the previous one, so that a growing log file can be followed
+	 * without reading it again.
+	 *
+	 * @param index                    the index of the log file
+	 * @param maxLogTailSizeInMegaByte the size of the tail of the file to parse
+	 * @param showAllSessions          whether the entries of the sessions older
+	 *                                 than the last one are kept
+	 */
+	static LogReader createIncrementalReader(LogFileIndex index, long maxLogTailSizeInMegaByte,
+			boolean showAllSessions) {
+		LogReader reader = new LogReader(index.getFile(), new ArrayList<>(), null, showAllSessions);
+		reader.index = index;
+		reader.maxLogTailSizeInMegaByte = maxLogTailSizeInMegaByte;
+		reader.maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
+				: ONE_MEGA_BYTE_IN_BYTES;
+		return reader;
+	}
+
+	/**
+	 * Creates the entry telling that no entry was found within the tail of a log
+	 * file.
+	 */
+	static LogEntry createTailWarningEntry(long maxLogTailSizeInMegaByte, LogSession session) {
+		LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
+				Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
+		entry.setSession(session == null ? new LogSession() : session);
+		return entry;
+	}
 
+	File getFile() {
+		return file;
+	}
+
+	boolean isShowingAllSessions() {
+		return showAllSessions;
+	}
+
+	long getMaxTailSize() {
+		return maxLogTailSizeInMegaByte;
+	}
+
+	/**
+	 * Returns whether the parsed part of the file of an incremental reader starts
+	 * after the start of the file.
+	 */
+	boolean isTailOnly() {
+		return parsedStart > 0;
+	}
+
+	/**
+	 * Returns the entries parsed by an incremental reader, in the order of the
+	 * file. The list may only be accessed while synchronized on this reader.
+	 */
+	List<LogEntry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Returns the most recent session found in the parsed part of the file, or
+	 * <code>null</code> if there is none.
+	 */
+	LogSession getCurrentSession() {
+		return currentSession;
+	}
+
+	/**
+	 * Parses the lines appended to the file since the previous update of this
+	 * incremental reader. The entries are parsed again from the tail of the file
+	 * on the first update, if the file was truncated or replaced, or if the parsed
+	 * part of the file has grown to twice the size of the tail.
+	 *
+	 * @return <code>true</code> if the entries were replaced, <code>false</code>
+	 *         if the new entries, if any, were appended to the previous ones
+	 */
+	boolean update() throws IOException {
+		if (!file.exists()) {
+			boolean replaced = parsedEnd != 0 || !entries.isEmpty();
+			reset();
+			// the offsets of a file created again must not be taken from the previous one
+			index.clear();
+			parsedEnd = 0;
+			return replaced;
+		}
+		boolean rebuilt = index.update();
+		long length = index.getIndexedLength();
+		boolean replaced = rebuilt || parsedEnd < 0 || length < parsedEnd
+				|| length - parsedStart > 2 * maxTailSizeInBytes;
+		if (replaced) {
+			reset();
+			parsedStart = index.getRecordOffsetFrom(Math.max(0, length - maxTailSizeInBytes));
+			if (!showAllSessions) {
+				parsedStart = Math.max(parsedStart, index.getLastSessionOffset());
+			}
+			parsedEnd = parsedStart;
+		}
+		if (length > parsedEnd) {
+			entriesCleared = false;
+			try (LineSource reader = new FileLineSource(file, parsedEnd, length)) {
+				read(reader);
+			}
+			parsedEnd = length;
+			replaced |= entriesCleared;
+		}
+		return replaced;
+	}
+
+	private void reset() {
+		entries.clear();
+		parents.clear();
+		current = null;
+		session = null;
+		currentSession = null;
+		writerState = UNKNOWN_STATE;
+		swriter = null;
+		writer = null;
+		messageStart = null;
+		stackOffset = -1;
+	}
+
+	/**
+	 * Parses the given lines, continuing the entry left open by the lines parsed
+	 * previously. The data of the last entry is complete once the lines are read,
+	 * but it is completed again if the next lines continue it.
+	 */
+	private void read(LineSource reader) throws IOException {
+		for (;;) {
+			String line0 = reader.readLine();
+			if (line0 == null)
+				break;
+			String line = line0.trim();
+
+			int state;
+			if (line.startsWith(LogSession.SESSION)) {
+				state = SESSION_STATE;
+			} else if (line.startsWith("!ENTRY")) { //$NON-NLS-1$
+				state = ENTRY_STATE;
+			} else if (line.startsWith("!SUBENTRY")) { //$NON-NLS-1$
+				state = SUBENTRY_STATE;
+			} else if (line.startsWith("!MESSAGE")) { //$NON-NLS-1$
+				state = MESSAGE_STATE;
+			} else if (line.startsWith("!STACK")) { //$NON-NLS-1$
+				state = STACK_STATE;
+			} else
+				state = TEXT_STATE;
+
+			if (state == TEXT_STATE) {
 				if (writer != null) {
-					setData(current, session, writerState, swriter);
-					writerState = UNKNOWN_STATE;
-					swriter = null;
-					writer.close();
-					writer = null;
+					if (swriter.getBuffer().length() > 0)
+						writer.println();
+					writer.print(line0);
 				}
+				continue;
+			}
 
-				switch (state) {
-				case STACK_STATE:
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
-					writerState = STACK_STATE;
-					break;
-				case SESSION_STATE:
-					session = new LogSession();
-					session.processLogLine(line);
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
-					writerState = SESSION_STATE;
-					currentSession = updateCurrentSession(currentSession, session);
-					// if current session is most recent and not showing all sessions
-					if (currentSession.equals(session) && !memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")) //$NON-NLS-1$
-						entries.clear();
+			if (writer != null) {
+				setData();
+				writerState = UNKNOWN_STATE;
+				swriter = null;
+				writer.close();
+				writer = null;
+			}
+			if (stackOffset >= 0) {
+				setStackLocation(reader.getLineOffset());
+				stackOffset = -1;
+			}
+
+			switch (state) {
+			case STACK_STATE:
+				if (reader.getNextLineOffset() >= 0) {
+					stackOffset = reader.getNextLineOffset();
+					stackHeaderLength = (int) (stackOffset - reader.getLineOffset());
 					break;
-				case ENTRY_STATE:
-					if (currentSession == null) { // create fake session if there was no any
-						currentSession = new LogSession();
-					}
+				}
+				swriter = new StringWriter();
+				writer = new PrintWriter(swriter, true);
+				writerState = STACK_STATE;
+				break;
+			case SESSION_STATE:
+				session = new LogSession();
+				session.processLogLine(line);
+				swriter = new StringWriter();
+				writer = new PrintWriter(swriter, true);
+				writerState = SESSION_STATE;
+				currentSession = updateCurrentSession(currentSession, session);
+				// if current session is most recent and not showing all sessions
+				if (currentSession.equals(session) && !showAllSessions) {
+					entries.clear();
+					entriesCleared = true;
+				}
+				break;
+			case ENTRY_STATE:
+				if (currentSession == null) { // create fake session if there was no any
+					currentSession = new LogSession();
+				}
+				try {
+					LogEntry entry = new LogEntry();
+					entry.setSession(currentSession);
+					entry.processEntry(line);
+					setNewParent(parents, entry, 0);
+					current = entry;
+					addEntry(current, entries, memento);
+				} catch (IllegalArgumentException pe) {
+					//do nothing, just toss the entry
+				}
+				break;
+			case SUBENTRY_STATE:
+				if (parents.size() > 0) {
 					try {
 						LogEntry entry = new LogEntry();
-						entry.setSession(currentSession);
-						entry.processEntry(line);
-						setNewParent(parents, entry, 0);
+						entry.setSession(session);
+						int depth = entry.processSubEntry(line);
+						setNewParent(parents, entry, depth);
 						current = entry;
-						addEntry(current, entries, memento);
+						LogEntry parent = parents.get(depth - 1);
+						parent.addChild(entry);
 					} catch (IllegalArgumentException pe) {
-						//do nothing, just toss the entry
-					}
-					break;
-				case SUBENTRY_STATE:
-					if (parents.size() > 0) {
-						try {
-							LogEntry entry = new LogEntry();
-							entry.setSession(session);
-							int depth = entry.processSubEntry(line);
-							setNewParent(parents, entry, depth);
-							current = entry;
-							LogEntry parent = parents.get(depth - 1);
-							parent.addChild(entry);
-						} catch (IllegalArgumentException pe) {
-							//do nothing, just toss the bad entry
-						}
+						//do nothing, just toss the bad entry
 					}
-					break;
-				case MESSAGE_STATE:
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
-					String message = ""; //$NON-NLS-1$
-					if (line.length() > 8)
-						message = line.substring(9);
-					if (current != null)
-						current.setMessage(message);
-					writerState = MESSAGE_STATE;
-					break;
-				default:
-					break;
 				}
-			}
-
-			if (swriter != null && current != null && writerState == STACK_STATE) {
-				writerState = UNKNOWN_STATE;
-				current.setStack(swriter.toString());
-			}
-		} catch (IOException e) { // do nothing
-		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
-				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
-						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
-				entry.setSession(currentSession == null ? new LogSession() : currentSession);
-				entries.add(entry);
-			}
-			if (writer != null) {
-				setData(current, session, writerState, swriter);
-				writer.close();
+				break;
+			case MESSAGE_STATE:
+				swriter = new StringWriter();
+				writer = new PrintWriter(swriter, true);
+				String message = ""; //$NON-NLS-1$
+				if (line.length() > 8)
+					message = line.substring(9);
+				if (current != null)
+					current.setMessage(message);
+				messageStart = message;
+				writerState = MESSAGE_STATE;
+				break;
+			default:
+				break;
 			}
 		}
 
-		return currentSession;
+		if (writer != null) {
+			setData();
+		}
+		if (stackOffset >= 0) {
+			setStackLocation(reader.getLineOffset());
+		}
 	}
 
 	public static LogSession parseLogFile(File file, List<LogEntry> entries, IMemento memento) {
 		return parseLogFile(file, ONE_MEGA_BYTE_IN_BYTES, entries, memento);
 	}
 
+	private void setStackLocation(long end) {
+		if (current != null && end > stackOffset) {
+			current.setStackLocation(file, stackHeaderLength, stackOffset, end - stackOffset);
+		}
+	}
+
 	/**
 	 * Assigns data from writer to appropriate field of current Log Entry or Session,
-	 * depending on writer state.
+	 * depending on writer state. The data can be assigned again once more lines were
+	 * written.
 	 */
-	private static void setData(LogEntry current, LogSession session, int writerState, StringWriter swriter) {
+	private void setData() {
 		if (writerState == STACK_STATE && current != null) {
 			current.setStack(swriter.toString());
 		} else if (writerState == SESSION_STATE && session != null) {
 			session.setSessionData(swriter.toString());
 		} else if (writerState == MESSAGE_STATE && current != null) {
-			StringBuilder sb = new StringBuilder(current.getMessage());
+			StringBuilder sb = new StringBuilder(messageStart);
 			String continuation = swriter.toString();
 			if (continuation.length() > 0)
 				sb.append(System.lineSeparator()).append(continuation);
@@ -218,10 +526,12 @@ class LogReader {
 
 	/**
 	 * Adds entry to the list if it's not filtered. Removes entries exceeding the count limit.
+	 * All entries are added if there is no filter.
 	 */
 	private static void addEntry(LogEntry entry, List<LogEntry> entries, IMemento memento) {
-
-		if (isLogged(entry, memento)) {
+		if (memento == null) {
+			entries.add(entry);
+		} else if (isLogged(entry, memento)) {
 			entries.add(entry);
 
 			if (memento.getString(LogView.P_USE_LIMIT).equals("true")) {//$NON-NLS-1$
@@ -97,6 +97,11 @@ public class LogView extends ViewPart implements LogListener {
 	/** default values **/
 	private static final int DEFAULT_LOG_MAX_TAIL_SIZE = 1; // 1 Mega Byte
 
+	/** Delay in milliseconds during which the logged entries are collected before being shown. */
+	private static final int PUSH_DELAY = 100;
+	/** Maximum number of shown logged entries waiting to be found in the log file. */
+	private static final int MAX_PUSHED_ENTRIES = 1000;
+
 	private int MESSAGE_ORDER;
 	private int PLUGIN_ORDER;
 	private int DATE_ORDER;
@@ -120,10 +125,32 @@ public class LogView extends ViewPart implements LogListener {
 	private final List<LogEntry> batchedEntries;
 	private volatile boolean batchEntries;
 
+	/** Logged entries waiting to be shown by {@link #pushJob}. */
+	private final List<LogEntry> pendingEntries;
+	private final Job pushJob;
+	/**
+	 * Logged entries shown since the log file was last read, in the order they were
+	 * logged. They are also written to the log file, so their parsed counterparts
+	 * are not shown again when the file is read. Only accessed while synchronized
+	 * on {@link #elements}.
+	 */
+	private final List<LogEntry> pushedEntries = new ArrayList<>();
+
 	private Clipboard fClipboard;
 
 	private IMemento fMemento;
 	private File fInputFile;
+	/** Index of the records of the input file, only accessed by {@link #getLogReader()}. */
+	private LogFileIndex fLogFileIndex;
+	/** Parsed entries of the input file, only accessed by {@link #getLogReader()}. */
+	private LogReader fLogReader;
+	/**
+	 * Whether the shown entries must be filtered and grouped again from the parsed
+	 * entries when the log file is read, because they differ from the parsed ones
+	 * or the filter or grouping changed. Otherwise only the new entries which were
+	 * not already shown as {@link #pushedEntries} are added.
+	 */
+	private volatile boolean fRegroupNeeded = true;
 	private String fDirectory;
 
 	private Comparator<?> fComparator;
@@ -177,6 +204,7 @@ public class LogView extends ViewPart implements LogListener {
 		public void run() {
 			if (fMemento.getInteger(LogView.P_GROUP_BY).intValue() != groupBy) {
 				fMemento.putInteger(LogView.P_GROUP_BY, groupBy);
+				fRegroupNeeded = true;
 				reloadLog();
 			}
 		}
@@ -189,6 +217,9 @@ public class LogView extends ViewPart implements LogListener {
 		elements = new CopyOnWriteArrayList<>();
 		groups = new ConcurrentHashMap<>();
 		batchedEntries = new ArrayList<>();
+		pendingEntries = new ArrayList<>();
+		pushJob = Job.create(Messages.LogView_AddingBatchedEvents, monitor -> pushPendingEntries());
+		pushJob.setSystem(true);
 		fInputFile = Platform.getLogFileLocation().toFile();
 	}
 
@@ -709,6 +740,7 @@ public class LogView extends ViewPart implements LogListener {
 	public void dispose() {
 		writeSettings();
 		this.logReaderServiceTracker.close();
+		pushJob.cancel();
 
 		if (fClipboard != null) {
 			fClipboard.dispose();
@@ -832,8 +864,10 @@ public class LogView extends ViewPart implements LogListener {
 		FilterDialog dialog = new FilterDialog(getSite().getShell(), fMemento);
 		dialog.create();
 		dialog.getShell().setText(Messages.LogView_FilterDialog_title);
-		if (dialog.open() == Window.OK)
+		if (dialog.open() == Window.OK) {
+			fRegroupNeeded = true;
 			reloadLog();
+		}
 	}
 
 
@@ -866,6 +900,7 @@ public class LogView extends ViewPart implements LogListener {
 				if (currentSession != null) {
 					currentSession.removeAllChildren();
 				}
+				fRegroupNeeded = true;
 			}
 			asyncRefresh();
 			resetDialogButtons();
@@ -897,34 +932,127 @@ public class LogView extends ViewPart implements LogListener {
 	 */
 	void readLogFile() {
 		setContentDescription(Messages.LogView_readLog_loading);
-		fetchLogEntries().thenAccept(this::updateLogViewer);
+		CompletableFuture.runAsync(this::updateLogViewer);
 	}
 
-	private CompletableFuture<List<LogEntry>> fetchLogEntries() {
-		return CompletableFuture.supplyAsync(() -> {
-			List<LogEntry> result = new ArrayList<>();
-			LogSession lastLogSession = LogReader.parseLogFile(this.fInputFile, getLogMaxTailSize(), result,
-					this.fMemento);
+	/**
+	 * Parses the lines appended to the input file since it was last read, and
+	 * updates the shown entries. The parsed entries are kept, so that the entries
+	 * are filtered and grouped again without reading the file when the filter or
+	 * grouping changes.
+	 */
+	private void updateLogViewer() {
+		LogReader reader = getLogReader();
+		synchronized (reader) {
+			int previousCount = reader.getEntries().size();
+			boolean replaced;
+			try {
+				replaced = reader.update();
+			} catch (IOException e) {
+				// show the entries parsed so far
+				replaced = true;
+			}
+			LogSession lastLogSession = reader.getCurrentSession();
 			if (lastLogSession != null
 					&& (lastLogSession.getDate() == null || isEclipseStartTime(lastLogSession.getDate()))) {
 				currentSession = lastLogSession;
 			} else {
 				currentSession = null;
 			}
-			return result;
-		});
+
+			List<LogEntry> parsedEntries = reader.getEntries();
+			List<LogEntry> entries = new ArrayList<>();
+			int maxSeverity = -1;
+			synchronized (elements) {
+				boolean regroup = replaced || fRegroupNeeded;
+				List<LogEntry> newEntries = regroup ? parsedEntries
+						: parsedEntries.subList(previousCount, parsedEntries.size());
+				Set<LogEntry> shownEntries = regroup ? null : findPushedEntries(pushedEntries, newEntries);
+				if (shownEntries == null) {
+					regroup = true;
+					newEntries = parsedEntries;
+				}
+				pushedEntries.clear();
+				// entries parsed before the update are only filtered again when regrouping
+				for (LogEntry entry : newEntries) {
+					if (LogReader.isLogged(entry, fMemento) && (regroup || !shownEntries.contains(entry))) {
+						entries.add(entry);
+						maxSeverity = Math.max(maxSeverity, entry.getSeverity());
+					}
+				}
+				if (regroup) {
+					elements.clear();
+					groups.clear();
+					if (entries.isEmpty() && reader.isTailOnly()
+							&& !(fMemento.getString(P_USE_LIMIT).equals("true") //$NON-NLS-1$
+									&& fMemento.getInteger(P_LOG_LIMIT).intValue() == 0)) {
+						entries.add(LogReader.createTailWarningEntry(reader.getMaxTailSize(), lastLogSession));
+						maxSeverity = IStatus.WARNING;
+					}
+				}
+				group(entries);
+				limitEntriesCount();
+				fRegroupNeeded = false;
+			}
+			setContentDescription(getTitleSummary());
+			if (maxSeverity >= 0) {
+				asyncRefreshAndActivate(maxSeverity);
+			} else if (replaced) {
+				asyncRefresh();
+			}
+		}
 	}
 
-	private void updateLogViewer(List<LogEntry> entries) {
-		OptionalInt maxSeverity = entries.stream().mapToInt(LogEntry::getSeverity).max();
-		synchronized (elements) {
-			elements.clear();
-			groups.clear();
-			group(entries);
-			limitEntriesCount();
+	/**
+	 * Finds the parsed entries of the logged entries already shown since the log
+	 * file was last read. The entries are matched in the order they were logged.
+	 *
+	 * @param pushedEntries the logged entries shown since the log file was last
+	 *                      read, in the order they were logged
+	 * @param parsedEntries the entries parsed since the log file was last read
+	 * @return the parsed entries which are already shown, or <code>null</code> if
+	 *         some shown entries are not in the log file, so that the view must be
+	 *         regrouped to match the file
+	 */
+	static Set<LogEntry> findPushedEntries(List<LogEntry> pushedEntries, List<LogEntry> parsedEntries) {
+		Set<LogEntry> found = Collections.newSetFromMap(new IdentityHashMap<>());
+		int next = 0;
+		for (LogEntry pushed : pushedEntries) {
+			while (next < parsedEntries.size() && !isSameEntry(pushed, parsedEntries.get(next))) {
+				next++;
+			}
+			if (next == parsedEntries.size()) {
+				return null;
+			}
+			found.add(parsedEntries.get(next++));
+		}
+		return found;
+	}
+
+	private static boolean isSameEntry(LogEntry pushed, LogEntry parsed) {
+		return pushed.getSeverity() == parsed.getSeverity() && pushed.getCode() == parsed.getCode()
+				&& Objects.equals(pushed.getPluginId(), parsed.getPluginId())
+				&& Objects.equals(pushed.getMessage(), parsed.getMessage());
+	}
+
+	/**
+	 * Returns the reader of the input file, which is kept while the same file is
+	 * shown with the same tail size and sessions, so that only the lines appended
+	 * to it are parsed again.
+	 */
+	private synchronized LogReader getLogReader() {
+		File file = fInputFile;
+		long maxTailSize = getLogMaxTailSize();
+		boolean showAllSessions = fMemento.getString(P_SHOW_ALL_SESSIONS).equals("true"); //$NON-NLS-1$
+		if (fLogFileIndex == null || !fLogFileIndex.getFile().equals(file)) {
+			fLogFileIndex = new LogFileIndex(file);
+			fLogReader = null;
 		}
-		setContentDescription(getTitleSummary());
-		maxSeverity.ifPresent(this::asyncRefreshAndActivate);
+		if (fLogReader == null || fLogReader.getMaxTailSize() != maxTailSize
+				|| fLogReader.isShowingAllSessions() != showAllSessions) {
+			fLogReader = LogReader.createIncrementalReader(fLogFileIndex, maxTailSize, showAllSessions);
+		}
+		return fLogReader;
 	}
 
 	private Display getDisplay() {
@@ -1085,6 +1213,8 @@ public class LogView extends ViewPart implements LogListener {
 		if (group == null) {
 			if (groupBy == GROUP_BY_SESSION) {
 				group = entry.getSession();
+				// the session may keep the entries it was shown with before the view was cleared
+				group.removeAllChildren();
 			} else {
 				group = new Group(groupName);
 			}
@@ -1202,14 +1332,48 @@ public class LogView extends ViewPart implements LogListener {
 		return logEntry;
 	}
 
+	/**
+	 * Queues the entry to be shown. The entries logged within {@link #PUSH_DELAY}
+	 * are shown together, so that the view is grouped, limited and refreshed once
+	 * for all of them.
+	 */
 	private void pushEntry(LogEntry entry) {
-		synchronized (elements) {
+		synchronized (pendingEntries) {
+			pendingEntries.add(entry);
+			if (pendingEntries.size() == 1) {
+				pushJob.schedule(PUSH_DELAY);
+			}
+		}
+	}
+
+	private void pushPendingEntries() {
+		List<LogEntry> entries;
+		synchronized (pendingEntries) {
+			entries = new ArrayList<>(pendingEntries);
+			pendingEntries.clear();
+		}
+		List<LogEntry> loggedEntries = new ArrayList<>(entries.size());
+		int maxSeverity = -1;
+		for (LogEntry entry : entries) {
 			if (LogReader.isLogged(entry, fMemento)) {
-				group(Collections.singletonList(entry));
-				limitEntriesCount();
+				loggedEntries.add(entry);
 			}
+			maxSeverity = Math.max(maxSeverity, entry.getSeverity());
+		}
+		synchronized (elements) {
+			group(loggedEntries);
+			limitEntriesCount();
+			// the entries are also in the log file, they are not added again when it is read
+			if (pushedEntries.size() + loggedEntries.size() > MAX_PUSHED_ENTRIES) {
+				pushedEntries.clear();
+				fRegroupNeeded = true;
+			} else {
+				pushedEntries.addAll(loggedEntries);
+			}
+		}
+		if (maxSeverity >= 0) {
+			asyncRefreshAndActivate(maxSeverity);
 		}
-		asyncRefreshAndActivate(entry.getSeverity());
 	}
 
 	private Throttler createMutualRefresh(Display display) {
@@ -68,7 +68,7 @@ public class LogViewLabelProvider extends LabelProvider implements ITableLabelPr
 			case IStatus.INFO -> infoImage;
 			case IStatus.OK -> okImage;
 			case IStatus.WARNING -> warningImage;
-			default -> (entry.getStack() == null ? errorImage : errorWithStackImage);
+			default -> (!entry.hasStack() ? errorImage : errorWithStackImage);
 			};
 		}
 		return null;
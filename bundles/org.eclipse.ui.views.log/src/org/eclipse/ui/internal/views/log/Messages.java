@@ -19,6 +19,7 @@ import org.eclipse.osgi.util.NLS;
 
 public class Messages extends NLS {
 
+	public static String LogEntry_stackUnavailable;
 	public static String LogReader_warn_noEntryWithinMaxLogTailSize;
 
 	public static String LogView_column_message;
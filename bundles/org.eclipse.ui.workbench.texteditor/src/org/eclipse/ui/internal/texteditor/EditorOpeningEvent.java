@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning a phase of the opening of a text editor: its
+ * initialization with the editor input, or the creation of its controls. It is
+ * only used through the {@link EditorOpeningRecorder}.
+ */
+@Name("org.eclipse.ui.texteditor.EditorOpening")
+@Label("Text Editor Opening")
+@Category({ "Eclipse", "Editors" })
+@Description("Initialization or creation of the controls of a text editor")
+@StackTrace(false)
+public final class EditorOpeningEvent extends Event {
+	@Label("Phase")
+	public String phase;
+
+	@Label("Editor Class")
+	public String editorClass;
+
+	@Label("Input")
+	@Description("Name of the editor input")
+	public String inputName;
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor;
+
+import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IEditorPart;
+
+/**
+ * Records the {@link EditorOpeningEvent}s of text editors. The flight recorder API is imported
+ * optionally, so the event is only used if the API can be loaded by this bundle. The events are
+ * passed around as objects so that the editors do not refer to the event class.
+ *
+ * @since 3.19
+ */
+public final class EditorOpeningRecorder {
+
+	/** The phase in which the editor is initialized with its input. */
+	public static final String INIT= "init"; //$NON-NLS-1$
+
+	/** The phase in which the controls of the editor are created. */
+	public static final String CREATE_PART_CONTROL= "createPartControl"; //$NON-NLS-1$
+
+	private static volatile boolean fgEnabled= isFlightRecorderWired();
+
+	private EditorOpeningRecorder() {
+	}
+
+	/**
+	 * Begins the event of a phase of the opening of an editor.
+	 *
+	 * @return the event, or <code>null</code> if the flight recorder cannot be used
+	 */
+	public static Object begin() {
+		if (!fgEnabled)
+			return null;
+		try {
+			EditorOpeningEvent event= new EditorOpeningEvent();
+			event.begin();
+			return event;
+		} catch (LinkageError e) {
+			fgEnabled= false;
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the event of a phase of the opening of an editor, and commits it if a recording
+	 * includes it.
+	 *
+	 * @param event the event returned by {@link #begin()}, or <code>null</code>
+	 * @param phase the phase, {@link #INIT} or {@link #CREATE_PART_CONTROL}
+	 * @param editor the editor
+	 * @param input the input of the editor, or <code>null</code>
+	 */
+	public static void commit(Object event, String phase, IEditorPart editor, IEditorInput input) {
+		if (event == null)
+			return;
+		EditorOpeningEvent jfrEvent= (EditorOpeningEvent) event;
+		jfrEvent.end();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.phase= phase;
+			jfrEvent.editorClass= editor.getClass().getName();
+			jfrEvent.inputName= input != null ? input.getName() : null;
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, EditorOpeningRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -221,6 +221,7 @@ import org.eclipse.ui.commands.ICommandImageService;
 import org.eclipse.ui.dialogs.PropertyDialogAction;
 import org.eclipse.ui.dnd.IDragAndDropService;
 import org.eclipse.ui.internal.texteditor.EditPosition;
+import org.eclipse.ui.internal.texteditor.EditorOpeningRecorder;
 import org.eclipse.ui.internal.texteditor.FocusedInformationPresenter;
 import org.eclipse.ui.internal.texteditor.HistoryTracker;
 import org.eclipse.ui.internal.texteditor.NLSUtility;
@@ -3210,7 +3211,12 @@ public abstract class AbstractTextEditor extends EditorPart implements ITextEdit
 
 		setSite(site);
 
-		internalInit(site.getWorkbenchWindow(), site, input);
+		Object jfrEvent= EditorOpeningRecorder.begin();
+		try {
+			internalInit(site.getWorkbenchWindow(), site, input);
+		} finally {
+			EditorOpeningRecorder.commit(jfrEvent, EditorOpeningRecorder.INIT, this, input);
+		}
 		fActivationListener= new ActivationListener(site.getWorkbenchWindow().getPartService());
 	}
 
@@ -3365,6 +3371,15 @@ public abstract class AbstractTextEditor extends EditorPart implements ITextEdit
 	 */
 	@Override
 	public void createPartControl(Composite parent) {
+		Object jfrEvent= EditorOpeningRecorder.begin();
+		try {
+			internalCreatePartControl(parent);
+		} finally {
+			EditorOpeningRecorder.commit(jfrEvent, EditorOpeningRecorder.CREATE_PART_CONTROL, this, getEditorInput());
+		}
+	}
+
+	private void internalCreatePartControl(Composite parent) {
 
 		fVerticalRuler= createVerticalRuler();
 
@@ -60,22 +60,32 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * needs an element decorated, it calls <code>queueForDecoration</code>.</li>
  *
  * <li><code>queueForDecoration</code> inserts (or, if already present, updates)
- * the <code>element</code> into <code>awaitingDecoration</code> and an
- * associated <code>DecorationReference</code> into
- * <code>awaitingDecorationValues</code> and schedules the
- * <code>decorationJob</code> to be executed asynchonously.</li>
+ * the <code>element</code> and an associated <code>DecorationReference</code>
+ * into <code>awaitingDecoration</code> and schedules the
+ * <code>decorationJobs</code> to be executed asynchonously. Elements which are
+ * only queued because a decorator reported a change for them (see
+ * <code>queueForBackgroundDecoration</code>) go to
+ * <code>awaitingBackgroundDecoration</code> instead, as it is not known whether
+ * any viewer currently shows them. Such an element is moved to
+ * <code>awaitingDecoration</code> as soon as a viewer asks for its
+ * decoration.</li>
  *
- * <li>The <code>decorationJob</code> processes the list of elements in
- * <code>awaitingDecoration</code> one by one. For each element, it calls
- * <code>ensureResultCached</code>, which in turn calls the actual lightweight
- * decorator(s) for the element and stores the decoration result in the
- * <code>resultCache</code> and adds the element to the
- * <code>pendingUpdate</code> collection to remember that it needs to be updated
- * in the UI.</li>
+ * <li>The <code>decorationJobs</code> process the elements in
+ * <code>awaitingDecoration</code> first and those in
+ * <code>awaitingBackgroundDecoration</code> afterwards, one by one. For each
+ * element, they call the actual lightweight decorator(s) for the element and
+ * store the decoration result in the <code>resultCache</code> and add the
+ * element to the <code>pendingUpdate</code> collection to remember that it
+ * needs to be updated in the UI. Usually there is only one decoration job, see
+ * {@link #DECORATION_THREADS_PROPERTY}.</li>
  *
- * <li>When the <code>decorationJob</code> has finished processing all elements
- * in <code>awaitingDecoration</code>, it finally schedules the
- * <code>updateJob</code>.</li>
+ * <li>Every <code>UPDATE_DELAY</code> milliseconds, and when a
+ * <code>decorationJob</code> has finished processing all queued elements, the
+ * <code>updateJob</code> is scheduled, so the results computed so far are shown
+ * in one batch. The <code>decorationJobs</code> keep computing decorations
+ * while the <code>updateJob</code> runs, so the <code>updateJob</code> only
+ * clears the <code>resultCache</code> once no element is queued, being
+ * decorated or awaiting its update.</li>
  *
  * <li>
  * <p>
@@ -123,15 +133,30 @@ public class DecorationScheduler {
 	 **/
 	private final Set<Object> pendingUpdate = new LinkedHashSet<>();
 
-	/** manually synchronized on DecorationScheduler.this **/
+	/**
+	 * Elements requested by viewers, decorated first. manually synchronized on
+	 * DecorationScheduler.this
+	 **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * Elements decorated on behalf of a decorator change, decorated after
+	 * awaitingDecoration. manually synchronized on DecorationScheduler.this
+	 **/
+	private final LinkedHashMap<Object, DecorationReference> awaitingBackgroundDecoration = new LinkedHashMap<>();
+
+	/**
+	 * Number of elements taken from the queues whose decorations are still
+	 * being computed. manually synchronized on DecorationScheduler.this
+	 **/
+	private int decorating = 0;
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
 	private final DecoratorManager decoratorManager;
 
-	private final Job decorationJob;
+	private final Job[] decorationJobs;
 
 	// Notifies about updateJob or clearJob finishing
 	private final class JobChangeListener extends JobChangeAdapter {
@@ -169,6 +194,20 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/**
+	 * System property defining the number of jobs computing lightweight
+	 * decorations concurrently. The default is <code>1</code>, as decorators
+	 * written before this property existed may not expect to be called from more
+	 * than one thread at a time.
+	 */
+	public static final String DECORATION_THREADS_PROPERTY = PlatformUI.PLUGIN_ID + ".decorationThreads"; //$NON-NLS-1$
+
+	/**
+	 * Number of queued elements per additional decoration job, so that small
+	 * updates do not wake up more jobs than needed.
+	 */
+	private static final int ELEMENTS_PER_JOB = 32;
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -181,7 +220,11 @@ public class DecorationScheduler {
 	 */
 	DecorationScheduler(DecoratorManager manager) {
 		decoratorManager = manager;
-		decorationJob = createDecorationJob();
+		int threads = Math.max(1, Integer.getInteger(DECORATION_THREADS_PROPERTY, 1).intValue());
+		decorationJobs = new Job[threads];
+		for (int i = 0; i < threads; i++) {
+			decorationJobs[i] = createDecorationJob();
+		}
 	}
 
 	/**
@@ -220,6 +263,13 @@ public class DecorationScheduler {
 
 		Assert.isNotNull(context);
 		DecorationReference reference = awaitingDecoration.get(element);
+		if (reference == null) {
+			// A viewer asks for it, so decorate it before the background ones
+			reference = awaitingBackgroundDecoration.remove(element);
+			if (reference != null) {
+				awaitingDecoration.put(element, reference);
+			}
+		}
 		if (reference != null) {
 			if (forceUpdate) {// Make sure we don't loose a force
 				reference.setForceUpdate(forceUpdate);
@@ -238,12 +288,54 @@ public class DecorationScheduler {
 
 	}
 
+	/**
+	 * Queue the element for decoration after all elements requested by viewers
+	 * have been decorated. Used for elements a decorator reported as changed,
+	 * which may or may not be shown at all. A labelProviderChanged is fired
+	 * whether decoration occurred or not.
+	 *
+	 * @param adaptedElement The adapted value of element. May be null.
+	 * @param context        The decoration context
+	 */
+	synchronized void queueForBackgroundDecoration(Object element, Object adaptedElement,
+			IDecorationContext context) {
+
+		Assert.isNotNull(context);
+		DecorationReference reference = awaitingDecoration.get(element);
+		if (reference == null) {
+			reference = awaitingBackgroundDecoration.get(element);
+		}
+		if (reference != null) {
+			reference.setForceUpdate(true);
+			reference.addContext(context);
+		} else {
+			reference = new DecorationReference(element, adaptedElement, context);
+			reference.setForceUpdate(true);
+			awaitingBackgroundDecoration.put(element, reference);
+			if (shutdown) {
+				return;
+			}
+			schedule();
+		}
+	}
+
 	/*
 	 * should not be called before constructor finished. Would leak reference to
 	 * incomplete constructed DecorationScheduler.this
 	 */
 	void schedule() {
-		decorationJob.schedule();
+		decorationJobs[0].schedule();
+		int jobs = Math.min(decorationJobs.length, awaitingCount() / ELEMENTS_PER_JOB + 1);
+		for (int i = 1; i < jobs; i++) {
+			decorationJobs[i].schedule();
+		}
+	}
+
+	/**
+	 * Return the number of elements waiting for decoration.
+	 */
+	private synchronized int awaitingCount() {
+		return awaitingDecoration.size() + awaitingBackgroundDecoration.size();
 	}
 
 	/**
@@ -323,6 +415,20 @@ public class DecorationScheduler {
 		updateJob.schedule(UPDATE_DELAY);
 	}
 
+	/**
+	 * Schedule the update job for the decorations computed so far unless it is
+	 * already scheduled or running.
+	 *
+	 * @return <code>true</code> if the update job has been scheduled
+	 */
+	synchronized boolean scheduleIdleUpdateJob() {
+		if (updateJob != null && updateJob.getState() != Job.NONE) {
+			return false;
+		}
+		scheduleUpdateJob();
+		return !shutdown;
+	}
+
 	/**
 	 * Shutdown the decoration.
 	 */
@@ -336,16 +442,31 @@ public class DecorationScheduler {
 	 * @return IResource
 	 */
 	synchronized DecorationReference removeNextReference() {
+		if (shutdown) {
+			return null;
+		}
 		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
+		if (!iterator.hasNext()) {
+			iterator = awaitingBackgroundDecoration.entrySet().iterator();
+		}
+		if (!iterator.hasNext()) {
 			return null;
 		}
 		Entry<Object, DecorationReference> entry = iterator.next();
 		iterator.remove();
 		DecorationReference reference = entry.getValue();
+		decorating++;
 		return reference;
 	}
 
+	/**
+	 * The decorations of a reference returned by {@link #removeNextReference()}
+	 * have been cached and its element has been added to the pending updates.
+	 */
+	synchronized void referenceDone() {
+		decorating--;
+	}
+
 	/**
 	 * Create the Thread used for running decoration.
 	 */
@@ -372,24 +493,36 @@ public class DecorationScheduler {
 				}
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingDecoration.size() + 1);
+						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingCount() + 1);
 				// will block if there are no resources to be decorated
 				DecorationReference reference;
 
 				boolean queued = false;
+				long lastUpdate = System.currentTimeMillis();
 				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
 				while ((reference = removeNextReference()) != null) {
-					subMonitor.split(1);
 					queued = true;
-					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					Collection<IDecorationContext> contexts = reference.getContexts();
-					for (IDecorationContext context : contexts) {
-						queued |= queue(element, force, context);
+					try {
+						subMonitor.split(1);
+						Object element = reference.getElement();
+						boolean force = reference.shouldForceUpdate();
+						Collection<IDecorationContext> contexts = reference.getContexts();
+						for (IDecorationContext context : contexts) {
+							queued |= queue(element, force, context);
+						}
+					} finally {
+						referenceDone();
+					}
+					subMonitor.setWorkRemaining(awaitingCount() + 1); // may grow asynchronously
+					// Show what is computed so far in batches instead of
+					// waiting for the whole queue to be exhausted
+					long now = System.currentTimeMillis();
+					if (now - lastUpdate >= UPDATE_DELAY) {
+						lastUpdate = now;
+						if (scheduleIdleUpdateJob()) {
+							queued = false;
+						}
 					}
-					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
-					// Only notify listeners when we have exhausted the
-					// queue of decoration requests.
 				}
 				if (queued) {
 					scheduleUpdateJob();
@@ -527,7 +660,7 @@ public class DecorationScheduler {
 					// If this is the first one check again in case
 					// someone has already cleared it out.
 					if (currentIndex == NEEDS_INIT) {
-						if (hasPendingUpdates()) {
+						if (!hasPendingUpdates()) {
 							resetState();
 							return Status.OK_STATUS;
 						}
@@ -562,7 +695,7 @@ public class DecorationScheduler {
 
 					if (currentIndex >= listeners.length) {
 						resetState();
-						if (!hasPendingUpdates()) {
+						if (hasPendingUpdates()) {
 							scheduleUpdateJob();
 						}
 						labelProviderChangedEvent = null;
@@ -586,9 +719,15 @@ public class DecorationScheduler {
 				removedListeners.clear();
 				// Other decoration requests may have occurred due to
 				// updates or we may have timed out updating listeners.
-				// Only clear the results if there are none pending.
-				if (awaitingDecoration.isEmpty()) {
-					resultCache.clear();
+				// Only clear the results if there are none pending, neither
+				// for decoration nor for an update of decorations computed
+				// while this job was running. An element counts as being
+				// decorated from the moment it is taken from the queues until
+				// it has been added to the pending updates.
+				synchronized (DecorationScheduler.this) {
+					if (awaitingCount() == 0 && decorating == 0 && !hasPendingUpdates()) {
+						resultCache.clear();
+					}
 				}
 			}
 
@@ -709,11 +848,11 @@ public class DecorationScheduler {
 	/**
 	 * Return whether or not there are any updates pending.
 	 *
-	 * @return boolean <code>true</code> if the updates are empty
+	 * @return boolean <code>true</code> if elements are awaiting a label update
 	 */
 	boolean hasPendingUpdates() {
 		synchronized (pendingUpdate) {
-			return pendingUpdate.isEmpty();
+			return !pendingUpdate.isEmpty();
 		}
 
 	}
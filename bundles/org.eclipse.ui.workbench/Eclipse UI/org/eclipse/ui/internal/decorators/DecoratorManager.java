@@ -612,7 +612,6 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	 * occur due to changes in enablement.
 	 */
 	public void clearCaches() {
-		getLightweightManager().reset();
 		fullTextRunnable.clearReferences();
 		fullImageRunnable.clearReferences();
 	}
@@ -657,8 +656,8 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 			for (Object element : elements) {
 				Object adapted = getResourceAdapter(element);
 				// Force an update in case full decorators are the only ones
-				// enabled
-				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT);
+				// enabled. Elements requested by viewers are decorated first.
+				scheduler.queueForBackgroundDecoration(element, adapted, DecorationContext.DEFAULT_CONTEXT);
 			}
 		}
 	}
@@ -117,8 +117,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
-
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
 
@@ -270,13 +268,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		return false;
 	}
 
-	/**
-	 * Reset any cached values.
-	 */
-	void reset() {
-		runnable.clearReferences();
-	}
-
 	/**
 	 * Shutdown the decorator manager by disabling all of the decorators so that
 	 * dispose() will be called on them.
@@ -333,16 +324,19 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	}
 
 	/**
-	 * Fill the decoration with all of the results of the decorators.
+	 * Fill the decoration with all of the results of the decorators. May be called
+	 * from several decoration threads at once, see
+	 * {@link DecorationScheduler#DECORATION_THREADS_PROPERTY}.
 	 *
 	 * @param element    The source element
 	 * @param decoration The DecorationResult we are working on. where adaptable is
 	 *                   true.
 	 */
 	public void getDecorations(Object element, DecorationBuilder decoration) {
+		LightweightRunnable runnable = new LightweightRunnable();
 		for (LightweightDecoratorDefinition decorator : getDecoratorsFor(element)) {
 			decoration.setCurrentDefinition(decorator);
-			decorate(element, decoration, decorator);
+			decorate(element, decoration, decorator, runnable);
 		}
 	}
 
@@ -352,8 +346,10 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @param element    The Object to be decorated
 	 * @param decoration The object building decorations.
 	 * @param decorator  The decorator being applied.
+	 * @param runnable   The runnable of the calling thread.
 	 */
-	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator) {
+	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator,
+			LightweightRunnable runnable) {
 
 		runnable.setValues(element, decoration, decorator);
 		SafeRunner.run(runnable);
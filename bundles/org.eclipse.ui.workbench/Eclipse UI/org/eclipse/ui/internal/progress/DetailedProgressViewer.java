@@ -69,6 +69,16 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 */
 	private final Map<JobTreeElement, ProgressInfoItem> jobItemControls = new HashMap<>();
 
+	/**
+	 * All job elements shown by the viewer, including the ones without a control
+	 * because of {@link #maxDisplayed}. They get a control once the elements
+	 * sorted before them are removed.
+	 */
+	private final Set<JobTreeElement> jobElements = new LinkedHashSet<>();
+
+	/** Whether a deferred {@link #updateSize()} is pending. */
+	private boolean sizeUpdatePending;
+
 	/**
 	 * Create a new instance of the receiver with a control that is a child of
 	 * <i>parent</i> with <i>style</i> style.
@@ -164,24 +174,17 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	@Override
 	public void add(JobTreeElement... elements) {
-		Set<JobTreeElement> items = getItems();
 		for (JobTreeElement element : elements) {
 			if (element != null) {
-				items.add(element);
+				jobElements.add(element);
 			}
 		}
-		updateItems(items);
+		updateItems();
 	}
 
-	private Set<JobTreeElement> getItems() {
-		// Use a Set in case we are getting something added that exists
-		Set<JobTreeElement> newItems = new LinkedHashSet<>(jobItemControls.keySet());
-		return newItems;
-	}
-
-	private void updateItems(Set<JobTreeElement> newItems) {
+	private void updateItems() {
 		ViewerComparator sorter = getComparator();
-		JobTreeElement[] infos = newItems.toArray(new JobTreeElement[0]);
+		JobTreeElement[] infos = jobElements.toArray(new JobTreeElement[0]);
 		if (sorter != null) {
 			sorter.sort(this, infos);
 		}
@@ -364,18 +367,19 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		}
 		Widget widget = findItem(element);
 		if (widget == null) {
-			add((JobTreeElement) element);
+			// elements beyond the maximum displayed have no control to refresh
+			if (!jobElements.contains(element)) {
+				add((JobTreeElement) element);
+			}
 			return;
 		}
 		((ProgressInfoItem) widget).refresh();
 
-		updateSize();
+		updateSizeLater();
 	}
 
 	@Override
 	public void remove(JobTreeElement... elements) {
-
-		Set<JobTreeElement> items = getItems();
 		for (JobTreeElement element : elements) {
 			// Make sure we are not keeping this one
 			if (FinishedJobs.getInstance().isKept(element)) {
@@ -392,12 +396,12 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 					if (parent != null && parent != element)
 						remove(parent);
 				}
-				items.remove(element);
+				jobElements.remove(element);
 				unmapElement(element);
 			}
 		}
 		 // also sort again, otherwise removed job may appear at top again:
-		updateItems(items);
+		updateItems();
 	}
 
 	@Override
@@ -434,6 +438,10 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 */
 	private void refreshAll() {
 		Object[] infos = getSortedChildren(getRoot());
+		jobElements.clear();
+		for (Object info : infos) {
+			jobElements.add((JobTreeElement) info);
+		}
 		reorderControls(infos);
 		updateForShowingProgress();
 	}
@@ -544,6 +552,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * Update the minimum size for scrolled composite.
 	 */
 	private void updateSize() {
+		sizeUpdatePending = false;
 		Point size = control.computeSize(SWT.DEFAULT, SWT.DEFAULT);
 		// no horizontal size because we do not want to scroll horizontal
 		size.x = 0;
@@ -551,6 +560,23 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		scrolled.setMinSize(size);
 	}
 
+	/**
+	 * Update the minimum size for scrolled composite once the pending events are
+	 * processed. Computing the size lays out all items, so it is done once for all
+	 * the items refreshed by an update instead of once per item.
+	 */
+	private void updateSizeLater() {
+		if (sizeUpdatePending) {
+			return;
+		}
+		sizeUpdatePending = true;
+		control.getDisplay().asyncExec(() -> {
+			if (sizeUpdatePending && !control.isDisposed()) {
+				updateSize();
+			}
+		});
+	}
+
 	/**
 	 * Get a copy of all progress items.
 	 *
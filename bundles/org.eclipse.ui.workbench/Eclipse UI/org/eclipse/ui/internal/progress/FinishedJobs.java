@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -53,6 +54,13 @@ public final class FinishedJobs extends EventManager {
 		void removed(JobTreeElement jte);
 	}
 
+	/**
+	 * Maximum number of kept elements. When more jobs to be kept finish, the
+	 * elements finished first are removed, so that thousands of finished jobs do
+	 * not flood the progress view.
+	 */
+	static final int MAX_KEPT_ELEMENTS = 500;
+
 	private static FinishedJobs theInstance;
 
 	private IJobProgressManagerListener listener;
@@ -213,6 +221,32 @@ public final class FinishedJobs extends EventManager {
 				KeptJobsListener jv = (KeptJobsListener) listener;
 				jv.finished(info);
 			}
+			removeOldest();
+		}
+	}
+
+	/**
+	 * Remove the elements finished first until at most {@link #MAX_KEPT_ELEMENTS}
+	 * are kept.
+	 */
+	private void removeOldest() {
+		while (true) {
+			JobTreeElement oldest;
+			synchronized (keptjobinfos) {
+				if (keptjobinfos.size() <= MAX_KEPT_ELEMENTS) {
+					return;
+				}
+				oldest = keptjobinfos.iterator().next();
+				// remove the whole group or job the oldest element belongs to if it is kept
+				JobTreeElement top = oldest;
+				while (top.getParent() != null && top.getParent() != top) {
+					top = top.getParent();
+				}
+				if (keptjobinfos.contains(top)) {
+					oldest = top;
+				}
+			}
+			remove(oldest);
 		}
 	}
 
@@ -329,14 +363,13 @@ public final class FinishedJobs extends EventManager {
 				disposeAction(jte);
 
 				// delete all elements that have jte as their direct or indirect parent
-				JobTreeElement jtes[] = getKeptElements();
-				for (JobTreeElement jobTreeElement : jtes) {
+				for (Iterator<JobTreeElement> iterator = keptjobinfos.iterator(); iterator.hasNext();) {
+					JobTreeElement jobTreeElement = iterator.next();
 					JobTreeElement parent = jobTreeElement.getParent();
 					if (parent != null) {
 						if (parent == jte || parent.getParent() == jte) {
-							if (keptjobinfos.remove(jobTreeElement)) {
-								disposeAction(jobTreeElement);
-							}
+							iterator.remove();
+							disposeAction(jobTreeElement);
 							finishedTime.remove(jobTreeElement);
 						}
 					}
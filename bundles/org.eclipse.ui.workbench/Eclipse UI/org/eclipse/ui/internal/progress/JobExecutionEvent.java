@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning the execution of a job, from the moment it is
+ * about to run until it is done, as observed by the {@link ProgressManager}.
+ */
+@Name("org.eclipse.ui.JobExecution")
+@Label("Job Execution")
+@Category({ "Eclipse", "Jobs" })
+@Description("Execution of a job")
+@StackTrace(false)
+final class JobExecutionEvent extends Event {
+	@Label("Job Name")
+	String jobName;
+
+	@Label("Job Class")
+	String jobClass;
+
+	@Label("Result Severity")
+	@Description("Severity of the status returned by the job, see IStatus")
+	int resultSeverity;
+}
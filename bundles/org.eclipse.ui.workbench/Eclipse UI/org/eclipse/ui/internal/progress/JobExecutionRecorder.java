@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+
+/**
+ * Records the {@link JobExecutionEvent}s of the {@link ProgressManager}. The
+ * flight recorder API is imported optionally, so the event is only used if the
+ * API can be loaded by this bundle. The events are passed around as objects so
+ * that the callers do not refer to the event class.
+ */
+final class JobExecutionRecorder {
+
+	private static volatile boolean enabled = isFlightRecorderWired();
+
+	private JobExecutionRecorder() {
+	}
+
+	/**
+	 * Begins the event of the execution of a job, if a recording includes it.
+	 *
+	 * @return the event, or <code>null</code> if the event is not recorded
+	 */
+	static Object begin() {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			JobExecutionEvent event = new JobExecutionEvent();
+			if (!event.isEnabled()) {
+				return null;
+			}
+			event.begin();
+			return event;
+		} catch (LinkageError e) {
+			enabled = false;
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the event of the execution of a job, and commits it if a recording
+	 * includes it.
+	 *
+	 * @param event    the event returned by {@link #begin()}, or
+	 *                 <code>null</code>
+	 * @param jobEvent the event telling that the job is done
+	 */
+	static void commit(Object event, IJobChangeEvent jobEvent) {
+		if (event == null) {
+			return;
+		}
+		JobExecutionEvent jfrEvent = (JobExecutionEvent) event;
+		jfrEvent.end();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.jobName = jobEvent.getJob().getName();
+			jfrEvent.jobClass = jobEvent.getJob().getClass().getName();
+			IStatus result = jobEvent.getResult();
+			jfrEvent.resultSeverity = result == null ? IStatus.OK : result.getSeverity();
+			jfrEvent.commit();
+		}
+	}
+
+	private static boolean isFlightRecorderWired() {
+		try {
+			Class.forName("jdk.jfr.Event", false, JobExecutionRecorder.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
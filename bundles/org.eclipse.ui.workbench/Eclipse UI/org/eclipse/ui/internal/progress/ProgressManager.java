@@ -36,8 +36,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.Predicate;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -110,6 +114,12 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 	final IJobChangeListener changeListener;
 
+	/**
+	 * The flight recorder events of the running jobs, only while a recording
+	 * includes them, see {@link JobExecutionRecorder}.
+	 */
+	private final Map<Job, Object> jobExecutionEvents = new ConcurrentHashMap<>();
+
 	static final String PROGRESS_VIEW_NAME = "org.eclipse.ui.views.ProgressView"; //$NON-NLS-1$
 
 	static final String PROGRESS_FOLDER = "$nl$/icons/full/progress/"; //$NON-NLS-1$
@@ -172,6 +182,13 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobAddition = new LinkedHashMap<>();
 
+	/**
+	 * The monitors whose progress changed since the listeners were last notified.
+	 * Their progress is sampled in {@link #notifyListeners()}, so that reporting
+	 * progress does not take {@link #pendingUpdatesMutex}.
+	 */
+	private final Queue<JobMonitor> changedMonitors = new ConcurrentLinkedQueue<>();
+
 	private static final String IMAGE_KEY = "org.eclipse.ui.progress.images"; //$NON-NLS-1$
 
 	private final Throttler uiRefreshThrottler;
@@ -207,6 +224,10 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		JobInfo info;
 		String currentTaskName;
 		Set<IProgressMonitor> monitors = Collections.emptySet();
+		/** The work reported since the progress was last sampled. */
+		private final DoubleAdder pendingWork = new DoubleAdder();
+		/** Whether the monitor is in {@link ProgressManager#changedMonitors}. */
+		private final AtomicBoolean changed = new AtomicBoolean();
 
 		/**
 		 * Creates a monitor on the supplied job.
@@ -242,7 +263,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			if (optionalInfo.isPresent()) {
 				TaskInfo currentTask = optionalInfo.get();
 				monitor.beginTask(currentTaskName, currentTask.totalWork);
-				monitor.internalWorked(currentTask.preWork);
+				monitor.internalWorked(currentTask.preWork + pendingWork.sum());
 			}
 		}
 
@@ -257,17 +278,49 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			this.monitors = Collections.unmodifiableSet(newSet);
 		}
 
+		/**
+		 * Queues the monitor to have its progress sampled when the listeners are
+		 * notified next. This does not block, since it is called for every progress
+		 * report.
+		 */
+		private void progressChanged() {
+			if (!changed.get() && changed.compareAndSet(false, true)) {
+				changedMonitors.add(this);
+				uiRefreshThrottler.throttledExec();
+			}
+		}
+
+		/**
+		 * Adds the work reported since the previous sample to the job info and
+		 * remembers to refresh it.
+		 */
+		synchronized void sampleProgress() {
+			changed.set(false);
+			double work = pendingWork.sumThenReset();
+			if (work != 0) {
+				info.addWork(work);
+			}
+			rememberJobUpdate(info);
+		}
+
 		@Override
 		public void beginTask(String taskName, int totalWork) {
-			info.beginTask(taskName, totalWork);
-			refreshJobInfo(info);
+			synchronized (this) {
+				// work not sampled yet belongs to the previous task
+				pendingWork.reset();
+				info.beginTask(taskName, totalWork);
+			}
+			progressChanged();
 			currentTaskName = taskName;
 			monitors.forEach(listener -> listener.beginTask(taskName, totalWork));
 		}
 
 		@Override
 		public void done() {
-			info.clearTaskInfo();
+			synchronized (this) {
+				pendingWork.reset();
+				info.clearTaskInfo();
+			}
 			info.clearChildren();
 			monitors.forEach(t -> t.done());
 		}
@@ -275,10 +328,12 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		@Override
 		public void internalWorked(double work) {
 			if (info.getTaskInfo().isPresent()) {
-				info.addWork(work);
-				refreshJobInfo(info);
+				pendingWork.add(work);
+				progressChanged();
+			}
+			if (!monitors.isEmpty()) {
+				monitors.forEach(listener -> listener.internalWorked(work));
 			}
-			monitors.forEach(listener -> listener.internalWorked(work));
 		}
 
 		@Override
@@ -305,7 +360,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 				return;
 			}
 			info.clearChildren();
-			refreshJobInfo(info);
+			progressChanged();
 			currentTaskName = taskName;
 			monitors.forEach(listener -> listener.setTaskName(taskName));
 		}
@@ -317,7 +372,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			}
 			info.clearChildren();
 			info.addSubTask(name);
-			refreshJobInfo(info);
+			progressChanged();
 			monitors.forEach(listener -> listener.subTask(name));
 		}
 
@@ -329,14 +384,14 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		@Override
 		public void clearBlocked() {
 			info.setBlockedStatus(null);
-			refreshJobInfo(info);
+			progressChanged();
 			monitors.forEach(IProgressMonitor::clearBlocked);
 		}
 
 		@Override
 		public void setBlocked(IStatus reason) {
 			info.setBlockedStatus(reason);
-			refreshJobInfo(info);
+			progressChanged();
 			monitors.forEach(listener -> listener.setBlocked(reason));
 		}
 	}
@@ -360,6 +415,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * Send pending notifications to listeners.
 	 */
 	/* Visible for testing */ public void notifyListeners() {
+		for (JobMonitor monitor; (monitor = changedMonitors.poll()) != null;) {
+			monitor.sampleProgress();
+		}
 		Set<GroupInfo> localPendingGroupUpdates, localPendingGroupRemoval;
 		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobUpdates, localPendingJobAddition,
 				localPendingJobRemoval;
@@ -421,6 +479,10 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		return new JobChangeAdapter() {
 			@Override
 			public void aboutToRun(IJobChangeEvent event) {
+				Object jfrEvent = JobExecutionRecorder.begin();
+				if (jfrEvent != null) {
+					jobExecutionEvents.put(event.getJob(), jfrEvent);
+				}
 				JobInfo info = progressFor(event.getJob()).getJobInfo();
 				refreshJobInfo(info);
 				Iterator<IJobBusyListener> startListeners = busyListenersForJob(event.getJob()).iterator();
@@ -432,6 +494,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void done(IJobChangeEvent event) {
+				if (!jobExecutionEvents.isEmpty()) {
+					JobExecutionRecorder.commit(jobExecutionEvents.remove(event.getJob()), event);
+				}
 				if (!PlatformUI.isWorkbenchRunning()) {
 					return;
 				}
@@ -625,12 +690,16 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param info the updated job info
 	 */
 	public void refreshJobInfo(JobInfo info) {
+		rememberJobUpdate(info);
+		uiRefreshThrottler.throttledExec();
+	}
+
+	private void rememberJobUpdate(JobInfo info) {
 		checkForStaleness(info.getJob());
 		synchronized (pendingUpdatesMutex) {
 			Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
 			rememberListenersForJob(info, pendingJobUpdates, predicate);
 		}
-		uiRefreshThrottler.throttledExec();
 	}
 
 	/**
@@ -14,8 +14,12 @@
 
 package org.eclipse.ui.internal.services;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.e4.core.commands.ExpressionContext;
@@ -42,6 +46,10 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 	boolean participating = true;
 	boolean postingChanges = true;
 	boolean hasRun = false;
+	private ExpressionInfo expressionInfo;
+	private Set<String> accessedNames;
+	private int evaluationCount;
+	private long evaluationTime;
 	static LogThrottle logThrottle = new LogThrottle(THROTTLE_MAX, THROTTLE_VALUE);
 
 	public EvaluationReference(IEclipseContext context, Expression expression, IPropertyChangeListener listener,
@@ -67,11 +75,61 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 		return sourcePriority;
 	}
 
+	/**
+	 * Returns the information about the variables and properties accessed by the
+	 * expression, computed once.
+	 *
+	 * @return the expression information, or <code>null</code> if there is no
+	 *         expression
+	 */
+	ExpressionInfo getExpressionInfo() {
+		if (expressionInfo == null && expression != null) {
+			expressionInfo = expression.computeExpressionInfo();
+		}
+		return expressionInfo;
+	}
+
+	/**
+	 * Returns whether the expression accesses the given variable or tests the
+	 * given property.
+	 *
+	 * @param name the variable or the fully qualified property name
+	 * @return <code>true</code> if the expression depends on the name
+	 */
+	boolean dependsOn(String name) {
+		if (accessedNames == null) {
+			ExpressionInfo info = getExpressionInfo();
+			if (info == null) {
+				accessedNames = Set.of();
+			} else {
+				Set<String> names = new HashSet<>(Arrays.asList(info.getAccessedPropertyNames()));
+				names.addAll(Arrays.asList(info.getAccessedVariableNames()));
+				accessedNames = names;
+			}
+		}
+		return accessedNames.contains(name);
+	}
+
+	/**
+	 * @return the number of times the expression was evaluated
+	 */
+	public int getEvaluationCount() {
+		return evaluationCount;
+	}
+
+	/**
+	 * @return the total time spent evaluating the expression, in nanoseconds
+	 */
+	public long getEvaluationTime() {
+		return evaluationTime;
+	}
+
 	@Override
 	public boolean evaluate(IEvaluationContext context) {
 		if (expression == null) {
 			cache = true;
 		} else {
+			long start = System.nanoTime();
 			try {
 				cache = expression.evaluate(context) != EvaluationResult.FALSE;
 			} catch (CoreException e) {
@@ -81,6 +139,9 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 					Activator.trace(Policy.DEBUG_CMDS_FLAG, message, e);
 				}
 				return false;
+			} finally {
+				evaluationCount++;
+				evaluationTime += System.nanoTime() - start;
 			}
 		}
 		return cache;
@@ -74,7 +74,7 @@ public final class EvaluationService implements IEvaluationService {
 				Object value = context.getActive(var);
 				if (value == null) {
 					ratContext.remove(var);
-				} else {
+				} else if (!isSameValue(ratContext.getLocal(var), value)) {
 					ratContext.set(var, value);
 				}
 			}
@@ -85,6 +85,21 @@ public final class EvaluationService implements IEvaluationService {
 		}
 	};
 
+	/**
+	 * Whether a new value of a variable can be ignored, as an equal value of the
+	 * same class gives the same results to the expressions. Source providers
+	 * often post new collections equal to the current one. Selections are only
+	 * ignored when identical: an equal selection may hold other instances of
+	 * the elements, which the expressions and property testers must see.
+	 */
+	private static boolean isSameValue(Object oldValue, Object newValue) {
+		if (oldValue == newValue) {
+			return true;
+		}
+		return oldValue != null && !(newValue instanceof ISelection) && oldValue.getClass() == newValue.getClass()
+				&& oldValue.equals(newValue);
+	}
+
 	private HashSet<String> variableFilter = new HashSet<>();
 	private IEventBroker eventBroker;
 
@@ -218,9 +233,8 @@ public final class EvaluationService implements IEvaluationService {
 		EvaluationReference eref = (EvaluationReference) ref;
 		refs.add(eref);
 		boolean changed = false;
-		if (eref.getExpression() != null) {
-			ExpressionInfo info = new ExpressionInfo();
-			eref.getExpression().collectExpressionInfo(info);
+		ExpressionInfo info = eref.getExpressionInfo();
+		if (info != null) {
 			for (String varName : info.getAccessedVariableNames()) {
 				if (ratVariables.add(varName)) {
 					changed = true;
@@ -268,28 +282,8 @@ public final class EvaluationService implements IEvaluationService {
 
 		startSourceChange();
 		for (EvaluationReference ref : refs) {
-			Expression expr = ref.getExpression();
-			if (expr != null) {
-				boolean evaluated = false;
-				ExpressionInfo info = expr.computeExpressionInfo();
-				String[] names = info.getAccessedPropertyNames();
-				for (String name : names) {
-					if (propertyName.equals(name)) {
-						evaluated = true;
-						ref.evaluate();
-						break;
-					}
-				}
-				if (!evaluated) {
-					names = info.getAccessedVariableNames();
-					for (String name : names) {
-						if (propertyName.equals(name)) {
-							evaluated = true;
-							ref.evaluate();
-							break;
-						}
-					}
-				}
+			if (ref.dependsOn(propertyName)) {
+				ref.evaluate();
 			}
 		}
 		endSourceChange();
@@ -20,7 +20,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.commands.Category;
 import org.eclipse.core.commands.IParameter;
@@ -42,6 +45,9 @@ import org.junit.Test;
 import org.osgi.framework.FrameworkUtil;
 
 import jakarta.inject.Named;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 public class HandlerTest {
 
@@ -83,6 +89,32 @@ public class HandlerTest {
 		assertTrue(handler.q2);
 	}
 
+	@Test
+	public void testExecutionRecorded() throws Exception {
+		EHandlerService hs = workbenchContext.get(EHandlerService.class);
+		hs.activateHandler(TEST_ID1, new CallHandler());
+		ECommandService cs = workbenchContext.get(ECommandService.class);
+		Path file = Files.createTempFile("commands", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.eclipse.e4.core.commands.CommandExecution");
+			recording.start();
+			assertEquals(Boolean.TRUE, hs.executeHandler(cs.createCommand(TEST_ID1, null)));
+			// not handled
+			assertNull(hs.executeHandler(cs.createCommand(TEST_ID2, null)));
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertEquals(2, events.size());
+			assertEquals(TEST_ID1, events.get(0).getString("commandId"));
+			assertFalse(events.get(0).getBoolean("failed"));
+			assertEquals(TEST_ID2, events.get(1).getString("commandId"));
+			assertTrue(events.get(1).getBoolean("failed"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
 	@Test
 	public void testDeactivateHandler() throws Exception {
 		EHandlerService hs = workbenchContext.get(EHandlerService.class);
@@ -478,6 +478,31 @@ public class BindingLookupTest {
 		assertEquals(commandMatches, matches);
 	}
 
+	@Test
+	public void testFindBindingInTableAddedAfterLookup() {
+		EContextService es = workbenchContext.get(EContextService.class);
+		es.activateContext(ID_TEXT);
+
+		ECommandService cs = workbenchContext.get(ECommandService.class);
+		ParameterizedCommand cmd = cs.createCommand(TEST_ID1, null);
+		EBindingService bs = workbenchContext.get(EBindingService.class);
+		TriggerSequence seq = bs.createSequence("CTRL+5 T");
+		assertNull(bs.getPerfectMatch(seq));
+
+		BindingTableManager btm = workbenchContext.get(BindingTableManager.class);
+		ContextManager cm = workbenchContext.get(ContextManager.class);
+		BindingTable textTable = new BindingTable(cm.getContext(ID_TEXT));
+		btm.addTable(textTable);
+		Binding db = createDefaultBinding(bs, seq, cmd, ID_TEXT);
+		bs.activateBinding(db);
+		assertEquals(cmd, bs.getPerfectMatch(seq).getParameterizedCommand());
+		assertTrue(bs.isPartialMatch(bs.createSequence("CTRL+5")));
+
+		btm.removeTable(textTable);
+		assertNull(bs.getPerfectMatch(seq));
+		assertFalse(bs.isPartialMatch(bs.createSequence("CTRL+5")));
+	}
+
 	private Binding createDefaultBinding(EBindingService bs,
 			TriggerSequence sequence, ParameterizedCommand command,
 			String contextId) {
@@ -16,10 +16,14 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.tests.css.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.List;
 
 import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
 import org.eclipse.e4.ui.tests.css.core.util.TestElement;
@@ -28,6 +32,10 @@ import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 import org.w3c.dom.Element;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 class CSSEngineTest {
 
 	private static class TestCSSEngine extends CSSEngineImpl {
@@ -80,6 +88,28 @@ class CSSEngineTest {
 		assertFalse(engine.matches(selector, "", null));
 	}
 
+	@Test
+	void testStylingRecorded() throws Exception {
+		TestCSSEngine engine = new TestCSSEngine();
+		TestElement canvas = new TestElement("Canvas", engine);
+		new TestElement("Button", canvas, engine);
+		Path file = Files.createTempFile("styling", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.eclipse.e4.ui.css.Styling");
+			recording.start();
+			engine.applyStyles(canvas, true);
+			recording.stop();
+			recording.dump(file);
+
+			// the styling of the child is part of the styling of its parent
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertEquals(1, events.size());
+			assertEquals(TestElement.class.getName(), events.get(0).getString("elementClass"));
+			assertTrue(events.get(0).getBoolean("children"));
+		} finally {
+			Files.delete(file);
+		}
+	}
 
 	private TestCSSEngine engineWhichProducesElementsWithAttributeA() {
 		TestCSSEngine engine = new TestCSSEngine();
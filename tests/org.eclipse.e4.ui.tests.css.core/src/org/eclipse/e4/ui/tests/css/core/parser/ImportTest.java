@@ -17,6 +17,8 @@ package org.eclipse.e4.ui.tests.css.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -26,6 +28,7 @@ import java.io.StringReader;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
+import org.eclipse.e4.ui.css.core.impl.engine.StyleSheetCache;
 import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
 import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +130,44 @@ public class ImportTest {
 		assertEquals(result, documentStyleSheet);
 	}
 
+	@Test
+	void testStyleSheetsParsedOnceForAllEngines() throws IOException {
+		File importedFile = createTempCssFile("Child { property: value; }\n");
+		String rootCss = createImport(importedFile) + "Root { property: value; }\n";
+		String importingUrl = "file:///" + importedFile.getParent() + "/root.css";
+
+		CSSRuleList cssRules = parseStyleSheet(importingUrl, rootCss).getCssRules();
+		engine = ParserTestUtil.createEngine();
+		CSSRuleList otherCssRules = parseStyleSheet(importingUrl, rootCss).getCssRules();
+		assertEquals(2, otherCssRules.getLength());
+		assertSame(cssRules.item(0), otherCssRules.item(0));
+		assertSame(cssRules.item(1), otherCssRules.item(1));
+
+		// a modified style sheet is parsed again
+		String modifiedCss = createImport(importedFile) + "Root { property: value2; }\n";
+		otherCssRules = parseStyleSheet(importingUrl, modifiedCss).getCssRules();
+		assertSame(cssRules.item(0), otherCssRules.item(0));
+		assertNotSame(cssRules.item(1), otherCssRules.item(1));
+		assertEquals("Root { property: value2; }", otherCssRules.item(1).getCssText());
+	}
+
+	@Test
+	void testStyleSheetCacheBounded() throws IOException {
+		String css = "Root { property: value; }\n";
+		CSSRuleList cssRules = parseStyleSheet("file:///cached0.css", css).getCssRules();
+		assertSame(cssRules.item(0), parseStyleSheet("file:///cached0.css", css).getCssRules().item(0));
+
+		// more style sheets than the cache keeps
+		for (int i = 1; i <= 100; i++) {
+			parseStyleSheet("file:///cached" + i + ".css", css);
+		}
+		CSSRuleList otherCssRules = parseStyleSheet("file:///cached0.css", css).getCssRules();
+		assertNotSame(cssRules.item(0), otherCssRules.item(0));
+
+		StyleSheetCache.clear();
+		assertNotSame(otherCssRules.item(0), parseStyleSheet("file:///cached0.css", css).getCssRules().item(0));
+	}
+
 	private void assertStyle(String expectedStyleText, CSSRuleList cssRules, int index) {
 		assertEquals(CSSRule.STYLE_RULE, cssRules.item(index).getType());
 		assertEquals(expectedStyleText.trim(), cssRules.item(index).getCssText());
@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.css.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -27,6 +28,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
@@ -36,6 +38,7 @@ import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.eclipse.swt.widgets.Display;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
 import org.w3c.dom.css.CSSRule;
 import org.w3c.dom.css.CSSStyleDeclaration;
 import org.w3c.dom.css.CSSStyleSheet;
@@ -123,6 +126,165 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	void testMatchByIdClassAndElementKeepsDeclarationOrder() throws Exception {
+		String css = """
+			#special { color: red; }
+			.warning { color: orange; }
+			Button { color: blue; }
+			* { color: black; }
+			Shell .warning { color: yellow; }
+			Label.warning { color: green; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement button = new TestElement("Button", shell, engine);
+		button.setId("special");
+		button.setClass("primary  warning warning");
+
+		// #special, .warning, Button, * and Shell .warning match, Label.warning does not
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals("color: red;", buttonStyle.getCssText());
+
+		button.setId(null);
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("color: yellow;", buttonStyle.getCssText());
+
+		final TestElement label = new TestElement("Label", shell, engine);
+		label.setClass("warning");
+		CSSStyleDeclaration labelStyle = viewCSS.getComputedStyle(label, null);
+		assertEquals("color: green;", labelStyle.getCssText());
+
+		CSSStyleDeclaration shellStyle = viewCSS.getComputedStyle(shell, null);
+		assertEquals("color: black;", shellStyle.getCssText());
+	}
+
+	@Test
+	void testStyleSharing() throws Exception {
+		String css = """
+			Shell .warning { color: yellow; }
+			Button[flat='true'] { color: blue; }
+			Button { background-color: white; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement button1 = new TestElement("Button", shell, engine);
+		final TestElement button2 = new TestElement("Button", shell, engine);
+		final TestElement button3 = new TestElement("Button", shell, engine);
+		button1.setClass("warning");
+		button2.setClass("warning");
+		button3.setClass("warning");
+		button3.setAttribute("flat", "true");
+
+		viewCSS.beginStyling();
+		try {
+			CSSStyleDeclaration style1 = viewCSS.getComputedStyle(button1, null);
+			CSSStyleDeclaration style2 = viewCSS.getComputedStyle(button2, null);
+			CSSStyleDeclaration style3 = viewCSS.getComputedStyle(button3, null);
+			assertSame(style1, style2);
+			assertNotSame(style1, style3);
+			assertEquals("blue", style3.getPropertyCSSValue("color").getCssText());
+			assertEquals(1, viewCSS.getSharedStyleCount());
+			assertEquals(2, viewCSS.getComputedStyleCount());
+
+			// the key of the styled element itself is always recomputed
+			button2.setClass(null);
+			CSSStyleDeclaration style = viewCSS.getComputedStyle(button2, null);
+			assertEquals(1, style.getLength());
+			assertEquals("background-color: white;", style.getCssText());
+		} finally {
+			viewCSS.endStyling();
+		}
+
+		// the shared styles are kept until the stylesheets change
+		viewCSS.beginStyling();
+		try {
+			assertSame(viewCSS.getComputedStyle(button3, null), viewCSS.getComputedStyle(button3, null));
+			assertEquals(2, viewCSS.getSharedStyleCount());
+		} finally {
+			viewCSS.endStyling();
+		}
+	}
+
+	@Test
+	void testStyleSharingInNestedPass() throws Exception {
+		String css = """
+			.active Label { color: red; }
+			Label { color: blue; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement composite = new TestElement("Composite", shell, engine);
+		final TestElement label = new TestElement("Label", composite, engine);
+
+		viewCSS.beginStyling();
+		try {
+			assertEquals("blue", viewCSS.getComputedStyle(label, null).getPropertyCSSValue("color").getCssText());
+
+			// a nested pass styles the changed shell
+			viewCSS.beginStyling();
+			try {
+				shell.setClass("active");
+				viewCSS.getComputedStyle(shell, null);
+			} finally {
+				viewCSS.endStyling();
+			}
+
+			// the key of the composite was computed for the old key of the shell
+			assertEquals("red", viewCSS.getComputedStyle(label, null).getPropertyCSSValue("color").getCssText());
+		} finally {
+			viewCSS.endStyling();
+		}
+	}
+
+	@Test
+	void testAffectedDescendants() throws Exception {
+		String css = """
+			.active > Composite { color: red; }
+			.active .MPart Label { color: blue; }
+			#main .selected { color: green; }
+			.other { color: black; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement label = new TestElement("Label", engine);
+		final TestElement button = new TestElement("Button", engine);
+		button.setClass("selected");
+
+		// classes and ids not tested on ancestors do not affect descendants
+		assertNull(viewCSS.getAffectedDescendants("MPartStack", "MPartStack other", null, null));
+		assertNull(viewCSS.getAffectedDescendants("MPartStack active", "active MPartStack", "a", "a"));
+
+		Predicate<Element> affected = viewCSS.getAffectedDescendants("MPartStack", "MPartStack active", null, null);
+		assertNotNull(affected);
+		assertTrue(affected.test(composite));
+		assertTrue(affected.test(label));
+		assertFalse(affected.test(button));
+
+		affected = viewCSS.getAffectedDescendants(null, null, "main", null);
+		assertNotNull(affected);
+		assertFalse(affected.test(label));
+		assertTrue(affected.test(button));
+	}
+
+	@Test
+	void testAffectedDescendantsWithInheritedValues() throws Exception {
+		String css = """
+			.active Composite { color: red; }
+			Label { color: inherit; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		Predicate<Element> affected = viewCSS.getAffectedDescendants("MPartStack", "MPartStack other", null, null);
+		assertNotNull(affected);
+		assertTrue(affected.test(new TestElement("Button", engine)));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testRuleCaching() throws Exception {
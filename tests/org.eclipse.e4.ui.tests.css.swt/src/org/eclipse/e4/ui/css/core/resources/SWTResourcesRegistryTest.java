@@ -15,6 +15,8 @@
 package org.eclipse.e4.ui.css.core.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -62,6 +64,18 @@ public class SWTResourcesRegistryTest {
 		assertTrue(resources.containsKey("key1"));
 	}
 
+	@Test
+	void testDisposedResourceIsUnregistered() {
+		final Font resource = mock(Font.class);
+		SWTResourcesRegistryTestable registry = new SWTResourcesRegistryTestable();
+		registry.registerResource(Font.class, "key", resource);
+		assertSame(resource, registry.getResource(Font.class, "key"));
+
+		doReturn(true).when(resource).isDisposed();
+		assertNull(registry.getResource(Font.class, "key"));
+		assertTrue(registry.getCacheByType(Font.class).isEmpty());
+	}
+
 	public static class SWTResourcesRegistryTestable extends SWTResourcesRegistry {
 		public SWTResourcesRegistryTestable() {
 			super(null);
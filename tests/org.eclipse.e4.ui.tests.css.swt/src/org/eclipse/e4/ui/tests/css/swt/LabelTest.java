@@ -17,6 +17,7 @@ package org.eclipse.e4.ui.tests.css.swt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.widgets.Label;
@@ -31,6 +32,21 @@ public class LabelTest extends CSSSWTTestCase {
 		assertEquals(BLUE, labelToTest.getForeground().getRGB());
 	}
 
+	@Test
+	void testColorConvertedOnce() {
+		Label labelToTest = createTestLabel("Label { background-color: #FF0000; color: #0000FF }");
+		AbstractCSSEngine cssEngine = (AbstractCSSEngine) engine;
+		int resourceKeyCount = cssEngine.getResourceKeyCount();
+		int convertedResourceCount = cssEngine.getConvertedResourceCount();
+
+		Label otherLabel = new Label(labelToTest.getParent(), SWT.NONE);
+		engine.applyStyles(otherLabel, true);
+		assertEquals(RED, otherLabel.getBackground().getRGB());
+		assertEquals(BLUE, otherLabel.getForeground().getRGB());
+		assertEquals(resourceKeyCount, cssEngine.getResourceKeyCount());
+		assertEquals(convertedResourceCount, cssEngine.getConvertedResourceCount());
+	}
+
 	@Test
 	void testFontRegular() {
 		Label labelToTest = createTestLabel("Label { font: Verdana 16px }");
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.internal.theme.ThemeEngine;
+import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the restyling of widgets by the theme engine after their CSS class
+ * changed, with a CSS engine added to the theme engine.
+ */
+public class ThemeEngineRestyleTest extends CSSSWTTestCase {
+
+	@Test
+	void testRestyleAfterClassChange() {
+		IThemeEngine themeEngine = new ThemeEngine(display);
+		themeEngine.addCSSEngine(createEngine("""
+				Label { color: #0000FF; }
+				Label.warning { color: #FF0000; }
+				""", display));
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Label label = new Label(shell, SWT.NONE);
+		WidgetElement.setCSSClass(label, "normal");
+		themeEngine.applyStyles(shell, true);
+		assertEquals(BLUE, label.getForeground().getRGB());
+
+		WidgetElement.setCSSClass(label, "warning");
+		themeEngine.applyStylesAfterChange(label, "normal", null);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testRestyleDescendantsAfterClassChange() {
+		IThemeEngine themeEngine = new ThemeEngine(display);
+		themeEngine.addCSSEngine(createEngine("""
+				Label { color: #0000FF; }
+				.warning Label { color: #FF0000; }
+				""", display));
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Composite panel = new Composite(shell, SWT.NONE);
+		panel.setLayout(new FillLayout());
+		Label label = new Label(panel, SWT.NONE);
+		WidgetElement.setCSSClass(panel, "normal");
+		themeEngine.applyStyles(shell, true);
+		assertEquals(BLUE, label.getForeground().getRGB());
+
+		WidgetElement.setCSSClass(panel, "warning");
+		themeEngine.applyStylesAfterChange(panel, "normal", null);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+}
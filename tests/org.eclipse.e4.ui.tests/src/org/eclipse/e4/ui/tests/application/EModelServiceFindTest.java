@@ -253,6 +253,80 @@ public class EModelServiceFindTest {
 		assertEquals(badIdAndTypeAndTags.size(), 0);
 	}
 
+	@Test
+	public void testFindReturnsFirstMatch() {
+		MApplication application = createApplication();
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+
+		List<MUIElement> elements = modelService.findElements(application, "twoValidIds", null);
+		assertEquals(2, elements.size());
+		assertSame(elements.get(0), modelService.find("twoValidIds", application));
+		assertSame(elements.get(1), modelService.find("twoValidIds", elements.get(1)));
+
+		assertNull(modelService.find("invalidId", application));
+		assertNull(modelService.find("", application));
+	}
+
+	@Test
+	public void testFindAfterModelChanges() {
+		MApplication application = createApplication();
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+		assertNull(modelService.find("newId", application));
+
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("newId");
+		assertNull(modelService.find("newId", application));
+
+		MPartSashContainer psc = (MPartSashContainer) application.getChildren().get(0).getChildren().get(0);
+		psc.getChildren().add(part);
+		assertSame(part, modelService.find("newId", application));
+
+		part.setElementId("otherId");
+		assertNull(modelService.find("newId", application));
+		assertSame(part, modelService.find("otherId", application));
+
+		part.getTags().add("newTag");
+		assertEquals(List.of(part), modelService.findElements(application, null, MPart.class, List.of("newTag")));
+		part.getTags().remove("newTag");
+		assertEquals(0, modelService.findElements(application, null, MPart.class, List.of("newTag")).size());
+
+		List<MUIElement> elements = modelService.findElements(application, "twoValidIds", null);
+		assertEquals(2, elements.size());
+		part.setElementId("twoValidIds");
+		assertEquals(3, modelService.findElements(application, "twoValidIds", null).size());
+
+		psc.getChildren().remove(part);
+		assertNull(modelService.find("otherId", application));
+		assertEquals(elements, modelService.findElements(application, "twoValidIds", null));
+	}
+
+	@Test
+	public void testFindThroughPlaceholder() {
+		MApplication application = createApplication();
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+		assertNull(modelService.find("sharedId", application));
+
+		// the referenced element is not part of the application
+		MPart shared = modelService.createModelElement(MPart.class);
+		shared.setElementId("sharedId");
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		placeholder.setRef(shared);
+		MPartSashContainer psc = (MPartSashContainer) application.getChildren().get(0).getChildren().get(0);
+		psc.getChildren().add(placeholder);
+		assertSame(shared, modelService.find("sharedId", application));
+
+		// and once it is
+		application.getChildren().get(0).getSharedElements().add(shared);
+		assertSame(shared, modelService.find("sharedId", application));
+		assertEquals(List.of(shared), modelService.findElements(application, "sharedId", MPart.class));
+	}
+
 	@Test
 	public void testFindElements_NullCheck() {
 		MApplication application = createApplication();
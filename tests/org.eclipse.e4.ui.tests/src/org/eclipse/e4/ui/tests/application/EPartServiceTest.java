@@ -21,6 +21,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -54,6 +56,10 @@ import org.eclipse.e4.ui.workbench.modeling.ISaveHandler.Save;
 import org.eclipse.emf.common.notify.Notifier;
 import org.junit.Test;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 public class EPartServiceTest extends UITest {
 
 	@Test
@@ -951,6 +957,33 @@ public class EPartServiceTest extends UITest {
 		assertTrue(partService2.isPartVisible(part2));
 	}
 
+	@Test
+	public void testActivate_recorded() throws Exception {
+		createApplication("partId", "partId2");
+
+		MWindow window = application.getChildren().get(0);
+		MPartStack partStack = (MPartStack) window.getChildren().get(0);
+		partStack.setSelectedElement(partStack.getChildren().get(0));
+
+		getEngine().createGui(window);
+
+		MPart part2 = (MPart) partStack.getChildren().get(1);
+		EPartService partService = window.getContext().get(EPartService.class);
+		Path file = Files.createTempFile("parts", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.eclipse.e4.ui.workbench.PartActivation");
+			recording.start();
+			partService.activate(part2);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertTrue(events.stream().anyMatch(event -> "partId2".equals(event.getString("partId"))));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
 	@Test
 	public void testActivate_partService_twoWindows() {
 		createApplication(new String[] { "partFrontA", "partBackA" }, new String[] { "partFrontB", "partBackB" });
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MApplicationFactory;
 import org.eclipse.e4.ui.workbench.UIEvents;
@@ -200,4 +201,46 @@ public class UIEventTypesTest extends HeadlessApplicationElementTest {
 		assertEquals(null, event.getProperty(UIEvents.EventTags.NEW_VALUE));
 	}
 
+	@Test
+	public void testBatchCoalescesSets() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		int coalescedEventCount = publisher.getCoalescedEventCount();
+
+		publisher.beginBatch();
+		try {
+			applicationElement.setElementId("aaa");
+			applicationElement.getTags().add("0");
+			applicationElement.setElementId("bbb");
+			applicationElement.setElementId("ccc");
+			assertEquals(0, eventCount);
+		} finally {
+			publisher.endBatch();
+		}
+
+		// the tag ADD and one SET with the first old and the last new value
+		assertEquals(2, eventCount);
+		assertEquals(UIEvents.ApplicationElement.ELEMENTID, event.getProperty(UIEvents.EventTags.ATTNAME));
+		assertEquals(UIEvents.EventTypes.SET, event.getProperty(UIEvents.EventTags.TYPE));
+		assertEquals(null, event.getProperty(UIEvents.EventTags.OLD_VALUE));
+		assertEquals("ccc", event.getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(coalescedEventCount + 2, publisher.getCoalescedEventCount());
+
+		// events are sent immediately again
+		applicationElement.setElementId("ddd");
+		assertEquals(3, eventCount);
+		assertEquals("ccc", event.getProperty(UIEvents.EventTags.OLD_VALUE));
+	}
+
+	@Test
+	public void testPublishedEventCounts() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		String topic = UIEvents.ApplicationElement.TOPIC_TAGS.replace(UIEvents.ALL_SUB_TOPICS,
+				UIEvents.EventTypes.ADD);
+		int count = publisher.getPublishedEventCounts().getOrDefault(topic, 0);
+
+		applicationElement.getTags().add("0");
+		applicationElement.getTags().add("1");
+		assertEquals(count + 2, publisher.getPublishedEventCounts().get(topic).intValue());
+	}
+
 }
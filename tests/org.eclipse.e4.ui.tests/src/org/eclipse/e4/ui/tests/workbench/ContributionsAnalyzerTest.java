@@ -14,12 +14,19 @@
 
 package org.eclipse.e4.ui.tests.workbench;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
+import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.e4.core.commands.ExpressionContext;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.eclipse.e4.ui.model.application.ui.MCoreExpression;
 import org.eclipse.e4.ui.model.application.ui.MImperativeExpression;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.junit.After;
@@ -53,4 +60,58 @@ public class ContributionsAnalyzerTest {
 
 		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
 	}
+
+	@Test
+	public void testMCoreExpressionEvaluatedWhenVariablesChange() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		int[] evaluations = new int[1];
+		Expression expression = new Expression() {
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) {
+				evaluations[0]++;
+				return EvaluationResult.valueOf(Boolean.TRUE.equals(context.getVariable("visible")));
+			}
+
+			@Override
+			public void collectExpressionInfo(ExpressionInfo info) {
+				info.addVariableNameAccess("visible");
+			}
+		};
+		MCoreExpression exp = ems.createModelElement(MCoreExpression.class);
+		exp.setCoreExpression(expression);
+
+		appContext.set("visible", Boolean.TRUE);
+		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertEquals(1, evaluations[0]);
+
+		appContext.set("visible", Boolean.FALSE);
+		assertFalse(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertFalse(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertEquals(2, evaluations[0]);
+	}
+
+	@Test
+	public void testMCoreExpressionTestingPropertyAlwaysEvaluated() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		int[] evaluations = new int[1];
+		Expression expression = new Expression() {
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) {
+				evaluations[0]++;
+				return EvaluationResult.TRUE;
+			}
+
+			@Override
+			public void collectExpressionInfo(ExpressionInfo info) {
+				info.addAccessedPropertyName("org.eclipse.e4.ui.tests.property");
+			}
+		};
+		MCoreExpression exp = ems.createModelElement(MCoreExpression.class);
+		exp.setCoreExpression(expression);
+
+		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
+		assertEquals(2, evaluations[0]);
+	}
 }
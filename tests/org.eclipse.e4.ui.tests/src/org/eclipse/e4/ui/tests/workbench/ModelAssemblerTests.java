@@ -36,11 +36,14 @@ import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.di.UISynchronize;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
 import org.eclipse.e4.ui.internal.workbench.ExtensionsSort;
 import org.eclipse.e4.ui.internal.workbench.ModelAssembler;
+import org.eclipse.e4.ui.internal.workbench.ModelFragmentWrapper;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
@@ -51,12 +54,15 @@ import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
 import org.eclipse.e4.ui.model.fragment.MFragmentFactory;
 import org.eclipse.e4.ui.model.fragment.MModelFragment;
 import org.eclipse.e4.ui.model.fragment.MModelFragments;
 import org.eclipse.e4.ui.model.fragment.MStringModelFragment;
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.e4.ui.workbench.swt.DisplayUISynchronize;
+import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -69,6 +75,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.osgi.service.log.LogEntry;
 import org.osgi.service.log.LogListener;
 
@@ -340,6 +348,60 @@ public class ModelAssemblerTests {
 		assertEquals("Could not resolve import for null", logMessages.poll());
 	}
 
+	/**
+	 * Tests that the events of the merged fragments are sent in one batch, so
+	 * that successive changes of the same attribute are sent as one event.
+	 */
+	@Test
+	public void testFragments_eventsBatched() throws Exception {
+		UIEventPublisher publisher = new UIEventPublisher(appContext);
+		((Notifier) application).eAdapters().add(publisher);
+		appContext.set(UIEventPublisher.class, publisher);
+
+		final String windowElementId = "testFragments_eventsBatched-window";
+		MWindow window = modelService.createModelElement(MWindow.class);
+		window.setElementId(windowElementId);
+		application.getChildren().add(window);
+
+		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
+		List<MMenu> menus = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			MMenu menu = modelService.createModelElement(MMenu.class);
+			menu.setElementId("testFragments_eventsBatched-menu" + i);
+			menus.add(menu);
+			MStringModelFragment fragment = MFragmentFactory.INSTANCE.createStringModelFragment();
+			fragment.setFeaturename("mainMenu");
+			fragment.setParentElementId(windowElementId);
+			fragment.getElements().add(menu);
+			MModelFragments fragments = MFragmentFactory.INSTANCE.createModelFragments();
+			fragments.getFragments().add(fragment);
+			Resource fragmentResource = factory.createResource(URI.createURI("fragmentvirtualuri" + i));
+			resourceSet.getResources().add(fragmentResource);
+			fragmentResource.getContents().add((EObject) fragments);
+			wrappers.add(new ModelFragmentWrapper(fragments, fragment, BUNDLE_SYMBOLIC_NAME, null, false));
+		}
+
+		List<Event> events = new ArrayList<>();
+		IEventBroker eventBroker = appContext.get(IEventBroker.class);
+		EventHandler handler = events::add;
+		eventBroker.subscribe(UIEvents.Window.TOPIC_MAINMENU, handler);
+		try {
+			int coalescedEventCount = publisher.getCoalescedEventCount();
+			assembler.processFragments(wrappers);
+
+			assertEquals(menus.get(1), window.getMainMenu());
+			// one SET from no menu to the last menu instead of one per fragment
+			assertEquals(1, events.size());
+			assertEquals(null, events.get(0).getProperty(UIEvents.EventTags.OLD_VALUE));
+			assertEquals(menus.get(1), events.get(0).getProperty(UIEvents.EventTags.NEW_VALUE));
+			assertEquals(coalescedEventCount + 1, publisher.getCoalescedEventCount());
+		} finally {
+			eventBroker.unsubscribe(handler);
+		}
+
+		assertEquals(0, logMessages.size());
+	}
+
 	/**
 	 * Make sure that all fragments and imports are resolved before the
 	 * post-processors are run. For reference, see
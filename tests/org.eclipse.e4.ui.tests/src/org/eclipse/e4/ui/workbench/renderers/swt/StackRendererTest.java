@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.PartStackUtil;
+import org.eclipse.e4.ui.internal.workbench.swt.AbstractPartRenderer;
 import org.eclipse.e4.ui.internal.workbench.swt.CSSConstants;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.descriptor.basic.MPartDescriptor;
@@ -205,6 +206,58 @@ public class StackRendererTest {
 		assertNotEquals(item.getImage(), image);
 	}
 
+	@Test
+	public void testRenderingDeferredUntilSelection() {
+		MPart part1 = ems.createModelElement(MPart.class);
+		MPart part2 = ems.createModelElement(MPart.class);
+		MPart part3 = ems.createModelElement(MPart.class);
+		partStack.getChildren().add(part1);
+		partStack.getChildren().add(part2);
+		partStack.getChildren().add(part3);
+		partStack.setSelectedElement(part1);
+
+		contextRule.createAndRunWorkbench(window);
+
+		LazyStackRenderer renderer = (LazyStackRenderer) partStack.getRenderer();
+		int deferredElementCount = renderer.getDeferredElementCount();
+		int materializedElementCount = renderer.getMaterializedElementCount();
+		assertTrue(deferredElementCount >= 2);
+		assertNotNull(part1.getWidget());
+		assertNull(part2.getWidget());
+		assertNull(part3.getWidget());
+		assertEquals(3, ((CTabFolder) partStack.getWidget()).getItemCount());
+
+		partStack.setSelectedElement(part2);
+		assertNotNull(part2.getWidget());
+		assertNull(part3.getWidget());
+		assertEquals(deferredElementCount, renderer.getDeferredElementCount());
+		assertEquals(materializedElementCount + 1, renderer.getMaterializedElementCount());
+	}
+
+	@Test
+	public void testFindItemForPart() {
+		MPart part1 = ems.createModelElement(MPart.class);
+		MPart part2 = ems.createModelElement(MPart.class);
+		partStack.getChildren().add(part1);
+		partStack.getChildren().add(part2);
+		partStack.setSelectedElement(part1);
+
+		contextRule.createAndRunWorkbench(window);
+
+		StackRenderer renderer = (StackRenderer) partStack.getRenderer();
+		CTabFolder tabFolder = (CTabFolder) partStack.getWidget();
+		assertSame(tabFolder.getItem(0), renderer.findItemForPart(part1));
+		assertSame(tabFolder.getItem(1), renderer.findItemForPart(part2));
+
+		part1.setToBeRendered(false);
+		assertNull(renderer.findItemForPart(part1));
+		assertSame(tabFolder.getItem(0), renderer.findItemForPart(part2));
+
+		part1.setToBeRendered(true);
+		assertNotNull(renderer.findItemForPart(part1));
+		assertSame(part1, renderer.findItemForPart(part1).getData(AbstractPartRenderer.OWNING_ME));
+	}
+
 	@Test
 	public void testBug475357_PartIconOverridesDescriptor() throws Exception {
 		MPartDescriptor partDescriptor = ems.createModelElement(MPartDescriptor.class);
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link CallTree} class.
+ */
+public class CallTreeTests {
+	private static StackTraceElement frame(String method, int line) {
+		return new StackTraceElement("org.example.Test", method, "Test.java", line);
+	}
+
+	/** Returns a stack, innermost frame first, of the given methods listed outermost first. */
+	private static StackTraceElement[] stack(String... methods) {
+		StackTraceElement[] stack = new StackTraceElement[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			stack[methods.length - 1 - i] = frame(methods[i], i + 1);
+		}
+		return stack;
+	}
+
+	private static Set<String> collapsedStacks(CallTree callTree) throws Exception {
+		StringBuilder out = new StringBuilder();
+		callTree.writeCollapsedStacks(out);
+		return new HashSet<>(Arrays.asList(out.toString().split("\n")));
+	}
+
+	@Test
+	public void testSamplesAggregated() throws Exception {
+		CallTree callTree = new CallTree(100);
+		callTree.addSample(stack("main", "run", "paint"));
+		callTree.addSample(stack("main", "run", "paint"));
+		callTree.addSample(stack("main", "run"));
+		callTree.addSample(stack("main", "layout"));
+
+		assertEquals(4, callTree.getSampleCount());
+		assertEquals(4, callTree.getNodeCount());
+		assertEquals(new HashSet<>(Arrays.asList(
+				"org.example.Test.main;org.example.Test.run;org.example.Test.paint 2",
+				"org.example.Test.main;org.example.Test.run 1",
+				"org.example.Test.main;org.example.Test.layout 1")),
+				collapsedStacks(callTree));
+	}
+
+	@Test
+	public void testLineNumbersIgnored() throws Exception {
+		CallTree callTree = new CallTree(100);
+		callTree.addSample(new StackTraceElement[] { frame("run", 10), frame("main", 1) });
+		callTree.addSample(new StackTraceElement[] { frame("run", 20), frame("main", 1) });
+
+		assertEquals(2, callTree.getNodeCount());
+		assertEquals(new HashSet<>(Arrays.asList("org.example.Test.main;org.example.Test.run 2")),
+				collapsedStacks(callTree));
+	}
+
+	@Test
+	public void testNodeCountBounded() throws Exception {
+		CallTree callTree = new CallTree(3);
+		callTree.addSample(stack("main", "run", "paint"));
+		callTree.addSample(stack("main", "run", "layout"));
+		callTree.addSample(stack("main", "dispose"));
+
+		assertEquals(3, callTree.getNodeCount());
+		assertEquals(3, callTree.getSampleCount());
+		assertEquals(2, callTree.getTruncatedSampleCount());
+		assertEquals(new HashSet<>(Arrays.asList(
+				"org.example.Test.main;org.example.Test.run;org.example.Test.paint 1",
+				"org.example.Test.main;org.example.Test.run 1",
+				"org.example.Test.main 1")),
+				collapsedStacks(callTree));
+
+		callTree.clear();
+		assertEquals(0, callTree.getNodeCount());
+		assertEquals(0, callTree.getSampleCount());
+	}
+}
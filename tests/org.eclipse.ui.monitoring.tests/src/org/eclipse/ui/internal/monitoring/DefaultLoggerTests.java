@@ -16,6 +16,8 @@
 package org.eclipse.ui.internal.monitoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.management.ManagementFactory;
@@ -94,4 +96,23 @@ public class DefaultLoggerTests {
 			assertEquals(threadStackTrace[i], loggedStackTrace[i]);
 		}
 	}
+
+	@Test
+	public void testRepeatedEventSummarized() {
+		logger.log(createFreezeEvent());
+		assertTrue(loggedStatus.isMultiStatus());
+
+		loggedStatus = null;
+		logger.log(createFreezeEvent());
+		assertFalse("Repeated freeze should not be logged with its samples",
+				loggedStatus.isMultiStatus());
+		assertTrue(loggedStatus.getMessage(), loggedStatus.getMessage().contains("same stack"));
+
+		loggedStatus = null;
+		logger.log(createFreezeEvent());
+		assertNull("Third occurrence of a freeze should not be logged", loggedStatus);
+
+		logger.log(createFreezeEvent());
+		assertTrue(loggedStatus.getMessage(), loggedStatus.getMessage().contains(": 4,"));
+	}
 }
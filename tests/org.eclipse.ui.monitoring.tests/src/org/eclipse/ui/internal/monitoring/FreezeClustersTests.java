@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+
+import org.eclipse.ui.monitoring.StackSample;
+import org.eclipse.ui.monitoring.UiFreezeEvent;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FreezeClusters} class.
+ */
+public class FreezeClustersTests {
+	private static UiFreezeEvent createFreezeEvent(long start, long duration) {
+		ThreadInfo thread = ManagementFactory.getThreadMXBean()
+				.getThreadInfo(Thread.currentThread().getId(), Integer.MAX_VALUE);
+		StackSample[] samples = { new StackSample(start, new ThreadInfo[] { thread }) };
+		return new UiFreezeEvent(start, duration, samples, false, false, false);
+	}
+
+	private static UiFreezeEvent createOtherFreezeEvent(long start, long duration) {
+		return createFreezeEvent(start, duration);
+	}
+
+	@Test
+	public void testSameStackClustered() {
+		FreezeClusters clusters = new FreezeClusters(null, 10);
+		FreezeClusters.Cluster cluster = clusters.add(createFreezeEvent(1000, 300));
+		assertSame(cluster, clusters.add(createFreezeEvent(5000, 700)));
+		assertEquals(1, clusters.size());
+		assertEquals(2, cluster.getCount());
+		assertEquals(1000, cluster.getTotalDuration());
+		assertEquals(700, cluster.getMaxDuration());
+		assertEquals(1000, cluster.getFirstTimestamp());
+	}
+
+	@Test
+	public void testDifferentStacksNotClustered() {
+		FreezeClusters clusters = new FreezeClusters(null, 10);
+		FreezeClusters.Cluster cluster = clusters.add(createFreezeEvent(1000, 300));
+		assertNotSame(cluster, clusters.add(createOtherFreezeEvent(5000, 700)));
+		assertEquals(2, clusters.size());
+	}
+
+	@Test
+	public void testFilteredFramesIgnored() {
+		FilterHandler filter = new FilterHandler(
+				FreezeClustersTests.class.getName() + ".createOther*");
+		FreezeClusters clusters = new FreezeClusters(filter, 10);
+		FreezeClusters.Cluster cluster = clusters.add(createFreezeEvent(1000, 300));
+		assertSame(cluster, clusters.add(createOtherFreezeEvent(5000, 700)));
+	}
+
+	@Test
+	public void testNumberOfClustersBounded() {
+		FreezeClusters clusters = new FreezeClusters(null, 1);
+		FreezeClusters.Cluster cluster = clusters.add(createFreezeEvent(1000, 300));
+		clusters.add(createOtherFreezeEvent(5000, 700));
+		assertEquals(1, clusters.size());
+		assertNotSame(cluster, clusters.add(createFreezeEvent(9000, 300)));
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTests {
+	@Test
+	public void testEmpty() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMaxValue());
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals(0, histogram.getMean(), 0);
+	}
+
+	@Test
+	public void testSmallValuesExact() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.recordValue(i);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(100, histogram.getMaxValue());
+		assertEquals(50, histogram.getValueAtPercentile(50));
+		assertEquals(90, histogram.getValueAtPercentile(90));
+		assertEquals(99, histogram.getValueAtPercentile(99));
+		assertEquals(100, histogram.getValueAtPercentile(100));
+		assertEquals(50.5, histogram.getMean(), 1e-9);
+	}
+
+	@Test
+	public void testLargeValuesWithinPrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1000; value <= 1_000_000; value += 1000) {
+			histogram.recordValue(value);
+		}
+		long[][] expectations = { { 50, 500_000 }, { 90, 900_000 }, { 99, 990_000 } };
+		for (long[] expectation : expectations) {
+			long value = histogram.getValueAtPercentile(expectation[0]);
+			assertTrue("p" + expectation[0] + "=" + value, value >= expectation[1]);
+			assertTrue("p" + expectation[0] + "=" + value, value <= expectation[1] + expectation[1] / 64);
+		}
+		assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testOutOfRangeValuesClamped() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.recordValue(-5);
+		histogram.recordValue(Long.MAX_VALUE);
+		assertEquals(2, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals((1L << 36) - 1, histogram.getMaxValue());
+		assertEquals((1L << 36) - 1, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.recordValue(12345);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMaxValue());
+		histogram.recordValue(7);
+		assertEquals(7, histogram.getValueAtPercentile(99));
+	}
+}
@@ -19,13 +19,18 @@ import org.junit.runners.Suite;
 
 /**
  * Test suite for {@code org.eclipse.ui.monitoring} plug-in.
- * The tests in {@link EventLoopMonitorThreadManualTests} are not included in this
- * suite due to their flakiness.
+ * The tests in {@link EventLoopMonitorThreadManualTests} and {@link UiThreadProfilerManualTests}
+ * are not included in this suite due to their flakiness.
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	EventLoopMonitorThreadTests.class,
 	FilterHandlerTests.class,
-	DefaultLoggerTests.class})
+	DefaultLoggerTests.class,
+	CallTreeTests.class,
+	UiThreadProfilerTests.class,
+	LatencyHistogramTests.class,
+	FreezeClustersTests.class,
+	UiFreezeRecorderTests.class})
 public class MonitoringTestSuite {
 }
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.ui.monitoring.StackSample;
+import org.eclipse.ui.monitoring.UiFreezeEvent;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * JUnit test for the {@link UiFreezeRecorder}.
+ */
+public class UiFreezeRecorderTests {
+	private static final String EVENT_NAME = "org.eclipse.ui.monitoring.UiFreeze";
+	private static final long TIME = 120000000;
+	private static final long DURATION = 500;
+
+	@Test
+	public void testRecord() throws Exception {
+		StackSample[] samples = { new StackSample(TIME, null), new StackSample(TIME + 100, null) };
+		Path file = Files.createTempFile("freezes", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME);
+			recording.start();
+			UiFreezeRecorder.record(new UiFreezeEvent(TIME, DURATION, samples, true, false, false));
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertEquals(1, events.size());
+			RecordedEvent event = events.get(0);
+			assertEquals(TIME, event.getInstant("freezeStart").toEpochMilli());
+			assertEquals(Duration.ofMillis(DURATION), event.getDuration("freezeDuration"));
+			assertTrue(event.getBoolean("stillRunning"));
+			assertEquals(2, event.getInt("stackSampleCount"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testNotRecorded() throws Exception {
+		StackSample[] samples = { new StackSample(TIME, null) };
+		Path file = Files.createTempFile("freezes", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.disable(EVENT_NAME);
+			recording.start();
+			UiFreezeRecorder.record(new UiFreezeEvent(TIME, DURATION, samples, false, false, false));
+			recording.stop();
+			recording.dump(file);
+
+			assertTrue(RecordingFile.readAllEvents(file).stream()
+					.noneMatch(event -> event.getEventType().getName().equals(EVENT_NAME)));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
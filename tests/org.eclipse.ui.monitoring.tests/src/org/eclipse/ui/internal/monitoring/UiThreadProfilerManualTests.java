@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * A test that measures the CPU overhead of {@link UiThreadProfiler}.
+ * This test is not included into {@link MonitoringTestSuite} due to its low reliability
+ * and the amount of time it takes.
+ */
+public class UiThreadProfilerManualTests {
+	/** Change to {@code true} to enable printing of detailed information to the console. */
+	private static final boolean PRINT_TO_CONSOLE = false;
+
+	/** Time the profiled thread is kept busy. */
+	protected static final long RUNNING_TIME_MILLIS = 10_000;
+
+	/** Sampling interval of the profiler, shorter than what continuous profiling would use. */
+	protected static final long SAMPLE_INTERVAL_MILLIS = 20;
+
+	/** Maximum CPU time used by the profiler, relative to the elapsed time. */
+	protected static final double MAX_CPU_OVERHEAD_PERCENT = 1.0; // %
+
+	/**
+	 * Verifies that the profiler thread uses less than {@link #MAX_CPU_OVERHEAD_PERCENT} of a CPU
+	 * while it samples a busy thread with a deep stack.
+	 */
+	@Test
+	public void testCpuOverhead() throws Exception {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threadMXBean.isThreadCpuTimeSupported());
+		threadMXBean.setThreadCpuTimeEnabled(true);
+
+		UiThreadProfiler profiler = new UiThreadProfiler(Thread.currentThread().getId(),
+				SAMPLE_INTERVAL_MILLIS, () -> true, UiThreadProfiler.MAX_CALL_TREE_NODES, null);
+		long start = System.nanoTime();
+		profiler.start();
+		long result = busyWork(start, 100);
+		// Measure while the profiler thread is still alive.
+		long cpuTime = threadMXBean.getThreadCpuTime(profiler.getId());
+		long elapsed = System.nanoTime() - start;
+		profiler.shutdown();
+		profiler.join();
+		Assume.assumeTrue(cpuTime >= 0);
+		double overheadPercent = 100.0 * cpuTime / elapsed;
+
+		if (PRINT_TO_CONSOLE) {
+			System.out.printf("Samples: %d, nodes: %d, profiler CPU overhead: %.3f%% (%d)%n",
+					profiler.getCallTree().getSampleCount(), profiler.getCallTree().getNodeCount(),
+					overheadPercent, result);
+		}
+		assertTrue(profiler.getCallTree().getSampleCount() > 0);
+		assertTrue(String.format("Profiler CPU overhead %.3f%% exceeds %.1f%%", overheadPercent,
+				MAX_CPU_OVERHEAD_PERCENT), overheadPercent < MAX_CPU_OVERHEAD_PERCENT);
+	}
+
+	/** Keeps the current thread busy in a stack of the given depth. */
+	private static long busyWork(long start, int depth) {
+		if (depth > 0) {
+			return busyWork(start, depth - 1) + depth;
+		}
+		long value = start;
+		while (System.nanoTime() - start < RUNNING_TIME_MILLIS * 1_000_000) {
+			for (int i = 0; i < 10_000; i++) {
+				value = value * 6364136223846793005L + 1442695040888963407L;
+			}
+		}
+		return value;
+	}
+}
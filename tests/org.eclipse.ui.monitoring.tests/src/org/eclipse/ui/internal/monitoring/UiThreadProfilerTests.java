@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link UiThreadProfiler} class.
+ */
+public class UiThreadProfilerTests {
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@Test
+	public void testCallTreeWrittenOnShutdown() throws Exception {
+		Path outputFile = Files.createTempFile("profile", ".txt");
+		try {
+			UiThreadProfiler profiler = new UiThreadProfiler(Thread.currentThread().getId(), 1,
+					() -> true, UiThreadProfiler.MAX_CALL_TREE_NODES, outputFile);
+			profiler.start();
+			long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+			while (profiler.getCallTree().getSampleCount() == 0
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			profiler.shutdown();
+			profiler.join();
+
+			String profile = Files.readString(outputFile, StandardCharsets.UTF_8);
+			assertTrue(profile, profile.contains(
+					UiThreadProfilerTests.class.getName() + ".testCallTreeWrittenOnShutdown"));
+		} finally {
+			Files.delete(outputFile);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.internal.views.log.AbstractEntry;
+import org.eclipse.ui.internal.views.log.LogEntry;
+import org.eclipse.ui.internal.views.log.LogView;
+
+/**
+ * Test of the Error Log view reading a log of 100000 entries, and following
+ * the platform log while 1000 entries are logged per second.
+ */
+public class LogViewPerformanceTest extends BasicPerformanceTest {
+
+	private static final String EMPTY_PERSPECTIVE_ID = "org.eclipse.ui.tests.harness.util.EmptyPerspective";
+
+	private static final String LOG_VIEW_ID = "org.eclipse.pde.runtime.LogView";
+
+	private static final String LOG_VIEW_PLUGIN_ID = "org.eclipse.ui.views.log";
+
+	private static final String PLUGIN_ID = "org.eclipse.ui.tests.performance";
+
+	private static final int ENTRY_COUNT = 100_000;
+
+	private static final int ENTRIES_PER_SECOND = 1000;
+
+	/**
+	 * Size of the tail of the log file read by the view, in megabytes, so that
+	 * the whole log of {@link #ENTRY_COUNT} entries is read.
+	 */
+	private static final long MAX_TAIL_SIZE = 64;
+
+	private static final long TIMEOUT = 60_000;
+
+	private Path logDirectory;
+
+	/**
+	 * Create a new instance of the receiver.
+	 */
+	public LogViewPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		logDirectory = Files.createTempDirectory("logview");
+		// read by the view when it is created
+		InstanceScope.INSTANCE.getNode(LOG_VIEW_PLUGIN_ID).putLong(LogView.P_LOG_MAX_TAIL_SIZE, MAX_TAIL_SIZE);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		try (var files = Files.list(logDirectory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(logDirectory);
+		super.doTearDown();
+		// the view stores its settings when it is closed
+		InstanceScope.INSTANCE.getNode(LOG_VIEW_PLUGIN_ID).remove(LogView.P_LOG_MAX_TAIL_SIZE);
+	}
+
+	/**
+	 * Test importing logs of 100000 entries in the view, which are read entirely.
+	 */
+	public void testReadLog() throws IOException {
+		LogView view = showLogView();
+		String[] logs = { writeLog("first.log"), writeLog("second.log") };
+
+		tagIfNecessary("UI - Error Log read", Dimension.ELAPSED_PROCESS);
+
+		for (int i = 0; i < 20; i++) {
+			view.handleClear();
+			processEvents();
+			startMeasuring();
+			// a different file is read each time, so that it is not read incrementally
+			view.handleImportPath(logs[i % 2]);
+			assertTrue("Log not read", processEventsUntil(() -> view.getElements().length > 0, TIMEOUT));
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the view following the platform log while entries are logged at a
+	 * rate of 1000 entries per second.
+	 */
+	public void testLiveLogging() {
+		LogView view = showLogView();
+		view.handleImportPath(Platform.getLogFileLocation().toOSString());
+		ILog log = Platform.getLog(getClass());
+
+		tagIfNecessary("UI - Error Log live logging", Dimension.ELAPSED_PROCESS);
+
+		for (int i = 0; i < 10; i++) {
+			String lastMessage = null;
+			processEvents();
+			startMeasuring();
+			long start = System.currentTimeMillis();
+			for (int j = 0; j < ENTRIES_PER_SECOND; j++) {
+				lastMessage = "Log view performance test " + i + " " + j;
+				log.log(new Status(IStatus.INFO, PLUGIN_ID, lastMessage));
+				// log at the expected rate, while the UI keeps running
+				while (System.currentTimeMillis() - start < (j + 1) * 1000L / ENTRIES_PER_SECOND) {
+					processEvents();
+				}
+			}
+			String message = lastMessage;
+			assertTrue("Logged entry not shown",
+					processEventsUntil(() -> contains(view.getElements(), message), TIMEOUT));
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private LogView showLogView() {
+		IWorkbenchPage page = openTestWindow(EMPTY_PERSPECTIVE_ID).getActivePage();
+		try {
+			return (LogView) page.showView(LOG_VIEW_ID);
+		} catch (PartInitException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean contains(AbstractEntry[] entries, String message) {
+		for (AbstractEntry entry : entries) {
+			if (entry instanceof LogEntry logEntry && message.equals(logEntry.getMessage())) {
+				return true;
+			}
+			if (!(entry instanceof LogEntry) && contains(entry.getChildren(entry), message)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes a log of one session with 100000 entries, some of them with a stack.
+	 */
+	private String writeLog(String name) throws IOException {
+		Path file = logDirectory.resolve(name);
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("!SESSION 2026-01-01 10:00:00.000 -----------------------------------------------");
+			writer.newLine();
+			writer.write("eclipse.buildId=unknown");
+			writer.newLine();
+			for (int i = 0; i < ENTRY_COUNT; i++) {
+				writer.newLine();
+				writer.write("!ENTRY " + PLUGIN_ID + " " + (i % 3 == 0 ? IStatus.ERROR : IStatus.INFO)
+						+ " 0 2026-01-01 10:00:00.000");
+				writer.newLine();
+				writer.write("!MESSAGE Entry " + i);
+				writer.newLine();
+				if (i % 3 == 0) {
+					writer.write("!STACK 0");
+					writer.newLine();
+					writer.write("java.lang.IllegalStateException: Entry " + i);
+					writer.newLine();
+					writer.write("\tat org.eclipse.ui.tests.performance.LogViewPerformanceTest.writeLog(LogViewPerformanceTest.java:1)");
+					writer.newLine();
+				}
+			}
+		}
+		return file.toString();
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.menu.MDirectMenuItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Test of the searches of the model service in a synthetic application model
+ * of about 50000 elements. The searches by id, class and tags use the element
+ * index of the application; the same searches through a generic selector walk
+ * the whole model, for comparison.
+ */
+public class ModelSearchPerformanceTest extends BasicPerformanceTest {
+
+	private static final int PERSPECTIVES = 10;
+
+	private static final int STACKS = 50;
+
+	private static final int PARTS = 10;
+
+	private static final int MENU_ITEMS = 8;
+
+	private static final String LAST_PART_ID = "part." + (PERSPECTIVES - 1) + "." + (STACKS - 1) + "." + (PARTS - 1);
+
+	private static final String TAG = "searchTag";
+
+	private static final int ITERATIONS = 20;
+
+	private static final int SEARCHES = 20;
+
+	private EModelService modelService;
+
+	private MApplication application;
+
+	/**
+	 * Create a new instance of the receiver.
+	 */
+	public ModelSearchPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		modelService = fWorkbench.getService(EModelService.class);
+		application = createApplication();
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		application = null;
+		super.doTearDown();
+	}
+
+	/**
+	 * Test the searches through the index.
+	 */
+	public void testIndexedSearch() {
+		// the first search creates the index
+		assertNull(modelService.find("missing", application));
+
+		tagIfNecessary("UI - Model search, indexed", Dimension.ELAPSED_PROCESS);
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int j = 0; j < SEARCHES; j++) {
+				assertNull(modelService.find("missing", application));
+				assertEquals(1, modelService.findElements(application, null, MPart.class, List.of(TAG)).size());
+				assertEquals(1, modelService.findElements(application, LAST_PART_ID, MPart.class).size());
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the same searches through a selector, which walk the whole model.
+	 */
+	public void testSelectorSearch() {
+		tagIfNecessary("UI - Model search, selector", Dimension.ELAPSED_PROCESS);
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int j = 0; j < SEARCHES; j++) {
+				assertEquals(0, modelService.findElements(application, MPart.class, EModelService.ANYWHERE,
+						new ElementMatcher("missing", null, (String) null)).size());
+				assertEquals(1, modelService.findElements(application, MPart.class, EModelService.ANYWHERE,
+						new ElementMatcher(null, MPart.class, TAG)).size());
+				assertEquals(1, modelService.findElements(application, MPart.class, EModelService.ANYWHERE,
+						new ElementMatcher(LAST_PART_ID, MPart.class, (String) null)).size());
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Create an application with perspectives of part stacks, whose parts have
+	 * a menu with items, which is about 50000 elements.
+	 */
+	private MApplication createApplication() {
+		MApplication app = modelService.createModelElement(MApplication.class);
+		MTrimmedWindow window = modelService.createModelElement(MTrimmedWindow.class);
+		app.getChildren().add(window);
+		MPerspectiveStack perspectiveStack = modelService.createModelElement(MPerspectiveStack.class);
+		window.getChildren().add(perspectiveStack);
+		for (int p = 0; p < PERSPECTIVES; p++) {
+			MPerspective perspective = modelService.createModelElement(MPerspective.class);
+			perspective.setElementId("perspective." + p);
+			perspectiveStack.getChildren().add(perspective);
+			MPartSashContainer sash = modelService.createModelElement(MPartSashContainer.class);
+			perspective.getChildren().add(sash);
+			for (int s = 0; s < STACKS; s++) {
+				MPartStack stack = modelService.createModelElement(MPartStack.class);
+				stack.setElementId("stack." + p + "." + s);
+				sash.getChildren().add(stack);
+				for (int i = 0; i < PARTS; i++) {
+					stack.getChildren().add(createPart("part." + p + "." + s + "." + i));
+				}
+			}
+		}
+		perspectiveStack.setSelectedElement(perspectiveStack.getChildren().get(0));
+		modelService.findElements(app, LAST_PART_ID, MPart.class).get(0).getTags().add(TAG);
+		return app;
+	}
+
+	private MPart createPart(String id) {
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId(id);
+		MMenu menu = modelService.createModelElement(MMenu.class);
+		menu.setElementId(id + ".menu");
+		part.getMenus().add(menu);
+		for (int i = 0; i < MENU_ITEMS; i++) {
+			MDirectMenuItem item = modelService.createModelElement(MDirectMenuItem.class);
+			item.setElementId(id + ".item" + i);
+			menu.getChildren().add(item);
+		}
+		return part;
+	}
+}
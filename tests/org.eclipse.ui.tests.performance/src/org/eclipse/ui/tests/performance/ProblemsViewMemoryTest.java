@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.tests.performance.parts.PerformanceProblemsView;
+
+/**
+ * Test of the memory used by the problems view to show 100000 problems, i.e.
+ * by the entries it keeps for sorting and filtering them.
+ */
+public class ProblemsViewMemoryTest extends BasicPerformanceTest {
+
+	private static final String EMPTY_PERSPECTIVE_ID = "org.eclipse.ui.tests.harness.util.EmptyPerspective";
+
+	private static final String PROBLEMS_VIEW_ID = "org.eclipse.ui.tests.performance.problemsView";
+
+	private static final String MESSAGE_PREFIX = "memory test problem ";
+
+	private static final int MARKER_COUNT = 100_000;
+
+	private static final long TIMEOUT = 120_000;
+
+	/**
+	 * Create a new instance of the receiver.
+	 */
+	public ProblemsViewMemoryTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		removeMarkers();
+		super.doTearDown();
+	}
+
+	/**
+	 * Test the heap used by the problems view showing the problems.
+	 */
+	public void testMemory() throws CoreException {
+		IWorkbenchPage page = openTestWindow(EMPTY_PERSPECTIVE_ID).getActivePage();
+		createMarkers();
+
+		tagIfNecessary("UI - Problems View memory", Dimension.USED_JAVA_HEAP);
+
+		for (int i = 0; i < 5; i++) {
+			collectGarbage();
+			startMeasuring();
+			PerformanceProblemsView view = showView(page);
+			assertTrue("Problems not shown",
+					processEventsUntil(() -> view.getTreeWidget().getItemCount() > 0, TIMEOUT));
+			collectGarbage();
+			stopMeasuring();
+			page.hideView(view);
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private PerformanceProblemsView showView(IWorkbenchPage page) {
+		try {
+			return (PerformanceProblemsView) page.showView(PROBLEMS_VIEW_ID);
+		} catch (PartInitException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void collectGarbage() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+	}
+
+	/**
+	 * Create the markers in one operation, spread over lines and severities.
+	 */
+	private void createMarkers() throws CoreException {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		IWorkspaceRunnable create = monitor -> {
+			Map<String, Object> attributes = new HashMap<>();
+			for (int i = 0; i < MARKER_COUNT; i++) {
+				attributes.put(IMarker.SEVERITY, Integer.valueOf(i % 3));
+				attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(i % 1000));
+				attributes.put(IMarker.MESSAGE, MESSAGE_PREFIX + i);
+				root.createMarker(IMarker.PROBLEM, attributes);
+			}
+		};
+		ResourcesPlugin.getWorkspace().run(create, null);
+	}
+
+	/**
+	 * Remove the created markers.
+	 */
+	private void removeMarkers() throws CoreException {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		IWorkspaceRunnable remove = monitor -> {
+			for (IMarker marker : root.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO)) {
+				String message = marker.getAttribute(IMarker.MESSAGE, null);
+				if (message != null && message.startsWith(MESSAGE_PREFIX)) {
+					marker.delete();
+				}
+			}
+		};
+		ResourcesPlugin.getWorkspace().run(remove, null);
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.ui.tests.performance;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -62,6 +63,12 @@ public class ProgressReportingTest extends BasicPerformanceTest {
 	 * results during profiling.
 	 */
 	public static final int MAX_ITERATIONS = 100;
+
+	/**
+	 * Number of jobs reporting progress at the same time in
+	 * {@link #testConcurrentJobsWorked}.
+	 */
+	public static final int CONCURRENT_JOBS = 32;
 	private volatile boolean isDone;
 	private Display display;
 
@@ -219,6 +226,32 @@ public class ProgressReportingTest extends BasicPerformanceTest {
 		});
 	}
 
+	/**
+	 * Test the throughput of monitor.worked from many jobs running concurrently
+	 */
+	public void testConcurrentJobsWorked() throws Exception {
+		openTestWindow();
+		setRunInBackground(true);
+		runAsyncTest(() -> {
+			AtomicInteger runningJobs = new AtomicInteger(CONCURRENT_JOBS);
+			for (int j = 0; j < CONCURRENT_JOBS; j++) {
+				Job.create("Test Job " + j, monitor -> {
+					int iterations = ITERATIONS / CONCURRENT_JOBS;
+					monitor.beginTask("Test Job", iterations);
+					int i = 0;
+					while (i < iterations) {
+						monitor.worked(1);
+						i++;
+					}
+
+					if (runningJobs.decrementAndGet() == 0) {
+						endAsyncTest();
+					}
+				}).schedule();
+			}
+		});
+	}
+
 	/**
 	 * Test the cost of subMonitor.split(). Note that if
 	 * {@link SubMonitor#split} is performing cancellation checks at the correct
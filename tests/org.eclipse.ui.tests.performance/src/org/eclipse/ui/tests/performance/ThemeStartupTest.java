@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.engine.StyleSheetCache;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.internal.theme.ThemeEngine;
+import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
+import org.eclipse.test.performance.Dimension;
+import org.junit.Test;
+import org.w3c.css.sac.InputSource;
+
+/**
+ * Test creating a CSS engine and parsing the style sheets of the active theme
+ * into it, as the theme engine does for the display at startup. The style
+ * sheets parsed before are dropped, so that every iteration parses them as a
+ * cold start does.
+ */
+public class ThemeStartupTest extends BasicPerformanceTest {
+
+	public ThemeStartupTest() {
+		super("testThemeStartup");
+	}
+
+	@Test
+	public void test() throws IOException {
+		IThemeEngine themeEngine = fWorkbench.getService(IThemeEngine.class);
+		assumeTrue("No active theme", themeEngine instanceof ThemeEngine && themeEngine.getActiveTheme() != null);
+		List<String> stylesheets = ((ThemeEngine) themeEngine).getStylesheets(themeEngine.getActiveTheme());
+		assumeTrue("No style sheets", !stylesheets.isEmpty());
+
+		tagIfNecessary("UI - Theme Startup", Dimension.ELAPSED_PROCESS);
+
+		for (int i = 0; i < 20; i++) {
+			StyleSheetCache.clear();
+			processEvents();
+			startMeasuring();
+			CSSEngine engine = new CSSSWTEngineImpl(fWorkbench.getDisplay());
+			try {
+				for (String stylesheet : stylesheets) {
+					parseStyleSheet(engine, FileLocator.resolve(new URL(stylesheet)));
+				}
+			} finally {
+				engine.dispose();
+			}
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static void parseStyleSheet(CSSEngine engine, URL url) throws IOException {
+		try (InputStream stream = url.openStream()) {
+			InputSource source = new InputSource();
+			source.setByteStream(stream);
+			source.setURI(url.toString());
+			engine.parseStyleSheet(source);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.ui.css.swt.theme.ITheme;
+import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
+import org.eclipse.test.performance.Dimension;
+import org.junit.Test;
+
+/**
+ * Test switching between two themes, which parses the style sheets of the
+ * themes and styles the open windows.
+ */
+public class ThemeSwitchTest extends BasicPerformanceTest {
+
+	public ThemeSwitchTest() {
+		super("testThemeSwitch");
+	}
+
+	@Test
+	public void test() throws CoreException {
+		final IThemeEngine themeEngine = fWorkbench.getService(IThemeEngine.class);
+		assumeTrue("No active theme", themeEngine != null && themeEngine.getActiveTheme() != null);
+		final ITheme theme1 = themeEngine.getActiveTheme();
+		ITheme otherTheme = null;
+		for (ITheme theme : themeEngine.getThemes()) {
+			if (theme != theme1) {
+				otherTheme = theme;
+				break;
+			}
+		}
+		assumeTrue("No other theme than " + theme1.getId(), otherTheme != null);
+		final ITheme theme2 = otherTheme;
+
+		tagIfNecessary("UI - Theme Switch", Dimension.ELAPSED_PROCESS);
+
+		try {
+			exercise(() -> {
+				processEvents();
+
+				startMeasuring();
+				themeEngine.setTheme(theme2, false);
+				processEvents();
+				themeEngine.setTheme(theme1, false);
+				processEvents();
+				stopMeasuring();
+			});
+		} finally {
+			themeEngine.setTheme(theme1, false);
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -38,11 +38,16 @@ public class UIPerformanceTestSuite extends FilteredTestSuite {
 		addTest(new JUnit4TestAdapter(OpenClosePerspectiveTest.class));
 		addTest(new JUnit4TestAdapter(PerspectiveSwitchTest.class));
 		addTest(new JUnit4TestAdapter(OpenCloseWindowTest.class));
+		addTest(new JUnit4TestAdapter(ThemeSwitchTest.class));
+		addTest(new JUnit4TestAdapter(ThemeStartupTest.class));
+		addTestSuite(LogViewPerformanceTest.class);
 		addTest(new ViewPerformanceSuite());
 		addTest(new JUnit4TestAdapter(OpenCloseEditorTest.class));
 		addTest(new JUnit4TestAdapter(OpenMultipleEditorTest.class));
 		addTest(new JUnit4TestAdapter(EditorSwitchTest.class));
 		addTestSuite(CommandsPerformanceTest.class);
+		addTestSuite(ModelSearchPerformanceTest.class);
+		addTestSuite(ProblemsViewMemoryTest.class);
 		addTest(new JUnit4TestAdapter(LabelProviderTest.class));
 		addTestSuite(ProgressReportingTest.class);
 		addTestSuite(OpenProjectExplorerFolderTest.class);
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecoratorDefinition;
+import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.tests.navigator.AbstractNavigatorTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the delivery of lightweight decorations computed in the background,
+ * which are shown in batches while other elements are still being decorated.
+ */
+@RunWith(JUnit4.class)
+public class DecorationSchedulerTest extends AbstractNavigatorTest implements ILabelProviderListener {
+
+	private static final String DECORATOR_ID = "org.eclipse.ui.tests.decorators.lightweightdecorator";
+
+	private static final int FILE_COUNT = 300;
+
+	private static final long TIMEOUT = 30_000;
+
+	private IFile[] files;
+
+	private DecoratorDefinition definition;
+
+	/**
+	 * The decorated text of the elements when they were first updated.
+	 */
+	private final Map<Object, String> decoratedTexts = new HashMap<>();
+
+	public DecorationSchedulerTest() {
+		super(DecorationSchedulerTest.class.getSimpleName());
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		createTestFolder();
+		files = new IFile[FILE_COUNT];
+		for (int i = 0; i < FILE_COUNT; i++) {
+			files[i] = testFolder.getFile("File" + i + ".txt");
+			files[i].create(new ByteArrayInputStream(new byte[0]), false, null);
+		}
+		for (DecoratorDefinition definition2 : getDecoratorManager().getAllDecoratorDefinitions()) {
+			if (definition2.getId().equals(DECORATOR_ID)) {
+				definition = definition2;
+			}
+		}
+		assertNotNull("No lightweight test decorator", definition);
+		getDecoratorManager().clearCaches();
+		definition.setEnabled(true);
+		getDecoratorManager().updateForEnablementChange();
+		waitForDecorations();
+		getDecoratorManager().addListener(this);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		getDecoratorManager().removeListener(this);
+		if (definition != null) {
+			getDecoratorManager().clearCaches();
+			definition.setEnabled(false);
+			getDecoratorManager().updateForEnablementChange();
+		}
+		super.doTearDown();
+	}
+
+	private DecoratorManager getDecoratorManager() {
+		return WorkbenchPlugin.getDefault().getDecoratorManager();
+	}
+
+	/**
+	 * Every element is updated with its decoration, although the update job
+	 * shows the first decorations while the others are still computed.
+	 */
+	@Test
+	public void testDecorationsShown() {
+		for (IFile file : files) {
+			// not decorated yet, queues the element
+			getDecoratorManager().decorateText(file.getName(), file);
+		}
+
+		assertTrue("Decorations not shown", processEventsUntil(this::allUpdated, TIMEOUT));
+		waitForDecorations();
+
+		for (IFile file : files) {
+			String expected = TestLightweightDecoratorContributor.DECORATOR_PREFIX + file.getName()
+					+ TestLightweightDecoratorContributor.DECORATOR_SUFFIX;
+			assertEquals("Decoration lost", expected, decoratedTexts.get(file));
+		}
+	}
+
+	private boolean allUpdated() {
+		for (IFile file : files) {
+			if (!decoratedTexts.containsKey(file)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Wait until the decoration jobs and the update job are done, which they
+	 * are not if elements are queued again and again.
+	 */
+	private void waitForDecorations() {
+		assertTrue("Decoration jobs still running",
+				processEventsUntil(() -> Job.getJobManager().find(DecoratorManager.FAMILY_DECORATE).length == 0,
+						TIMEOUT));
+	}
+
+	@Override
+	public void labelProviderChanged(LabelProviderChangedEvent event) {
+		Object[] elements = event.getElements();
+		if (elements == null) {
+			return;
+		}
+		for (Object element : elements) {
+			if (element instanceof IFile file && file.getParent().equals(testFolder)) {
+				// as a viewer does, the result is taken from the cache while
+				// the update job is running
+				decoratedTexts.putIfAbsent(element, getDecoratorManager().decorateText(file.getName(), file));
+			}
+		}
+	}
+}
@@ -463,6 +463,48 @@ public final class BindingManagerTest {
 				actualBinding);
 	}
 
+	/**
+	 * Tests that changing the active contexts only recomputes the bindings if a
+	 * context referenced by a binding, or one of its children, changed.
+	 *
+	 * @throws NotDefinedException
+	 *             If the scheme we try to activate is not defined.
+	 * @throws ParseException
+	 *             If the hard-coded strings aren't constructed properly.
+	 */
+	@Test
+	public void testContextChangeWithoutBindings() throws NotDefinedException, ParseException {
+		contextManager.getContext("na").define("name", "description", null);
+		contextManager.getContext("child").define("child", "description", "na");
+		contextManager.getContext("other").define("other", "description", null);
+		final Scheme scheme = bindingManager.getScheme("na");
+		scheme.define("name", "description", null);
+		bindingManager.setActiveScheme(scheme);
+
+		final KeySequence keySequence = KeySequence.getInstance("CTRL+F");
+		final Binding binding = new KeyBinding(keySequence,
+				new ParameterizedCommand(commandManager.getCommand("perfect"), null), "na", "na", null, null,
+				null, Binding.SYSTEM);
+		bindingManager.setBindings(new Binding[] { binding });
+
+		contextManager.setActiveContextIds(Set.of("other"));
+		assertNull("The binding context is not active", bindingManager.getPerfectMatch(keySequence));
+
+		contextManager.setActiveContextIds(Set.of("other", "child"));
+		assertSame("The parent of an active context is active", binding,
+				bindingManager.getPerfectMatch(keySequence));
+
+		final int[] changes = new int[1];
+		bindingManager.addBindingManagerListener(event -> changes[0]++);
+		contextManager.setActiveContextIds(Set.of("child"));
+		assertEquals("No binding is affected by the change", 0, changes[0]);
+		assertSame(binding, bindingManager.getPerfectMatch(keySequence));
+
+		contextManager.setActiveContextIds(Set.of("other"));
+		assertEquals("The binding context was deactivated", 1, changes[0]);
+		assertNull(bindingManager.getPerfectMatch(keySequence));
+	}
+
 	/**
 	 * Tests that the platform is never <code>null</code>.
 	 */
@@ -26,6 +26,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
+import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.MarkerSupportView;
 import org.eclipse.ui.views.markers.internal.MarkerSupportRegistry;
 
@@ -65,6 +66,56 @@ public class MarkersTestMarkersView extends MarkerSupportView {
 		return new IMarker[0];
 	}
 
+	/**
+	 * Get the item of the marker in the current markers.
+	 */
+	public MarkerItem getMarkerItem(IMarker marker) {
+		try {
+			Object markers = getViewerInput();
+			Method method = markers.getClass().getDeclaredMethod("getMarkerItem", IMarker.class);
+			method.setAccessible(true);
+			return (MarkerItem) method.invoke(markers, marker);
+		} catch (SecurityException | NoSuchMethodException | IllegalAccessException
+				| InvocationTargetException e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Get the name of the category that shows the marker in the current
+	 * markers, or <code>null</code> if no category shows it.
+	 */
+	public String getCategoryName(IMarker marker) {
+		try {
+			Object markers = getViewerInput();
+			Method getCategories = markers.getClass().getDeclaredMethod("getCategories");
+			getCategories.setAccessible(true);
+			for (Object category : (Object[]) getCategories.invoke(markers)) {
+				Method getChildren = category.getClass().getDeclaredMethod("getChildren");
+				getChildren.setAccessible(true);
+				for (MarkerItem item : (MarkerItem[]) getChildren.invoke(category)) {
+					if (marker.equals(item.getMarker())) {
+						Method getName = category.getClass().getDeclaredMethod("getName");
+						getName.setAccessible(true);
+						return (String) getName.invoke(category);
+					}
+				}
+			}
+		} catch (SecurityException | NoSuchMethodException | IllegalAccessException
+				| InvocationTargetException e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	private Object getViewerInput()
+			throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+		Method method = ExtendedMarkersView.class.getDeclaredMethod("getActiveViewerInputClone");
+		method.setAccessible(true);
+		return method.invoke(this);
+	}
+
 	/**
 	 * Add a listener for the end of the update.
 	 */
@@ -14,6 +14,7 @@
 package org.eclipse.ui.tests.markers;
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.jobs.Job;
@@ -22,6 +23,7 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.tests.navigator.AbstractNavigatorTest;
+import org.eclipse.ui.views.markers.MarkerItem;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -88,4 +90,71 @@ public class ResourceMappingMarkersTest extends AbstractNavigatorTest {
 		}
 		assertTrue("No markers generated",markerFound);
 	}
+
+	@Test
+	public void testMarkerDeltas() throws CoreException {
+		IWorkbenchWindow window = PlatformUI.getWorkbench()
+				.getActiveWorkbenchWindow();
+		IWorkbenchPage page = window.getActivePage();
+		ResourceMappingTestView view = (ResourceMappingTestView) page
+				.showView("org.eclipse.ui.tests.resourceMappingView");
+		MarkersTestMarkersView problemView = (MarkersTestMarkersView) page
+				.showView("org.eclipse.ui.tests.markerTests");
+		waitForUpdates(problemView);
+
+		// the markers are updated from the deltas of the changes
+		IMarker marker = view.addMarkerToFirstProject();
+		assertNotNull("Marker creation failed", marker);
+		waitForUpdates(problemView);
+		assertEquals("Added marker not shown", 1, count(problemView.getCurrentMarkers(), marker));
+
+		marker.setAttribute(IMarker.MESSAGE, "Changed marker");
+		waitForUpdates(problemView);
+		assertEquals("Changed marker not shown once", 1, count(problemView.getCurrentMarkers(), marker));
+
+		// a changed severity moves the marker to its category, the other
+		// entries are kept as the markers are not collected again
+		IMarker other = view.addMarkerToFirstProject();
+		assertNotNull("Marker creation failed", other);
+		waitForUpdates(problemView);
+		MarkerItem otherItem = problemView.getMarkerItem(other);
+		assertNotNull("Added marker not shown", otherItem);
+		String errorCategory = problemView.getCategoryName(other);
+		assertNotNull("Markers not grouped by severity", errorCategory);
+		assertEquals("Errors in different categories", errorCategory, problemView.getCategoryName(marker));
+
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		waitForUpdates(problemView);
+		assertEquals("Changed marker not shown once", 1, count(problemView.getCurrentMarkers(), marker));
+		String warningCategory = problemView.getCategoryName(marker);
+		assertNotNull("Changed marker not in a category", warningCategory);
+		assertFalse("Changed marker not moved to its category", errorCategory.equals(warningCategory));
+		assertEquals("Unchanged marker moved", errorCategory, problemView.getCategoryName(other));
+		assertSame("Markers collected again", otherItem, problemView.getMarkerItem(other));
+
+		marker.delete();
+		other.delete();
+		waitForUpdates(problemView);
+		assertEquals("Removed marker still shown", 0, count(problemView.getCurrentMarkers(), marker));
+		assertEquals("Removed marker still shown", 0, count(problemView.getCurrentMarkers(), other));
+	}
+
+	private static void waitForUpdates(MarkersTestMarkersView problemView) {
+		try {
+			Job.getJobManager().join(
+					problemView.MARKERSVIEW_UPDATE_JOB_FAMILY,
+					new NullProgressMonitor());
+		} catch (OperationCanceledException | InterruptedException e) {
+		}
+	}
+
+	private static int count(IMarker[] markers, IMarker marker) {
+		int count = 0;
+		for (IMarker marker2 : markers) {
+			if (marker2.equals(marker)) {
+				count++;
+			}
+		}
+		return count;
+	}
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.ui.internal.progress.ProgressManager;
+import org.eclipse.ui.tests.TestPlugin;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the flight recorder events of the executions of jobs emitted by the
+ * {@link ProgressManager}.
+ */
+public class JobExecutionRecordedTest extends ProgressTestCase {
+
+	private static final String EVENT_NAME = "org.eclipse.ui.JobExecution";
+
+	@Test
+	public void testJobExecutionRecorded() throws Exception {
+		// the progress manager listens to the jobs once created
+		ProgressManager.getInstance();
+		String jobName = getClass().getName() + ".job";
+		Job job = Job.create(jobName,
+				(IProgressMonitor monitor) -> new Status(IStatus.WARNING, TestPlugin.PLUGIN_ID, "warning"));
+		CountDownLatch done = new CountDownLatch(1);
+		// the listeners of the job are notified after the global ones
+		job.addJobChangeListener(new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				done.countDown();
+			}
+		});
+		Path file = Files.createTempFile("jobs", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME);
+			recording.start();
+			job.schedule();
+			assertTrue("Job not done", done.await(30, TimeUnit.SECONDS));
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+					.filter(event -> jobName.equals(event.getString("jobName"))).collect(Collectors.toList());
+			assertEquals(1, events.size());
+			assertEquals(IStatus.WARNING, events.get(0).getInt("resultSeverity"));
+			assertEquals(job.getClass().getName(), events.get(0).getString("jobClass"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -31,7 +31,8 @@ import org.junit.runners.Suite;
 	JobInfoTest.class,
 	JobInfoTestOrdering.class,
 	ProgressAnimationItemTest.class,
-	AccumulatingProgressMonitorTest.class
+	AccumulatingProgressMonitorTest.class,
+	JobExecutionRecordedTest.class
 })
 public class ProgressTestSuite {
 
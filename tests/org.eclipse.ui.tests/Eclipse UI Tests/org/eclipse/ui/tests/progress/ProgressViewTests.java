@@ -19,17 +19,22 @@ import static org.eclipse.ui.tests.harness.util.UITestCase.processEventsUntil;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.internal.progress.DetailedProgressViewer;
 import org.eclipse.ui.internal.progress.FinishedJobs;
 import org.eclipse.ui.internal.progress.JobInfo;
 import org.eclipse.ui.internal.progress.JobTreeElement;
@@ -43,6 +48,8 @@ import org.junit.Test;
 
 public class ProgressViewTests extends ProgressTestCase {
 
+	private static final int MANY_JOBS = 10_000;
+
 	@Override
 	@Before
 	public void doSetUp() throws Exception {
@@ -194,6 +201,61 @@ public class ProgressViewTests extends ProgressTestCase {
 		}
 	}
 
+	@Test
+	public void testManyJobs() throws Exception {
+		openProgressView();
+		DetailedProgressViewer viewer = progressView.getViewer();
+		int maxDisplayed = viewer.getMaxDisplayed();
+		CountDownLatch start = new CountDownLatch(1);
+		// all jobs wait for the first one to finish, so that they are all listed at once
+		ISchedulingRule mutex = new ISchedulingRule() {
+			@Override
+			public boolean isConflicting(ISchedulingRule rule) {
+				return rule == this;
+			}
+
+			@Override
+			public boolean contains(ISchedulingRule rule) {
+				return rule == this;
+			}
+		};
+		List<Job> jobs = new ArrayList<>();
+		try {
+			for (int i = 0; i < MANY_JOBS; i++) {
+				Job job = Job.create("Many jobs " + i, monitor -> {
+					monitor.beginTask("Waiting", 1);
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					monitor.worked(1);
+					monitor.done();
+				});
+				job.setRule(mutex);
+				job.schedule();
+				jobs.add(job);
+			}
+			processEventsUntil(() -> viewer.getProgressInfoItems().length == maxDisplayed,
+					TimeUnit.SECONDS.toMillis(30));
+			assertEquals("Only the maximum number of jobs should have a control", maxDisplayed,
+					viewer.getProgressInfoItems().length);
+		} finally {
+			start.countDown();
+		}
+		long timeout = TimeUnit.SECONDS.toMillis(120);
+		long end = System.currentTimeMillis() + timeout;
+		for (Job job : jobs) {
+			while (!job.join(10, null)) {
+				assertTrue("Jobs did not finish in time", System.currentTimeMillis() < end);
+				assertTrue(viewer.getProgressInfoItems().length <= maxDisplayed);
+				processEvents();
+			}
+		}
+		processEventsUntil(() -> viewer.getProgressInfoItems().length == 0, TimeUnit.SECONDS.toMillis(10));
+		assertEquals("Finished jobs still listed", 0, viewer.getProgressInfoItems().length);
+	}
+
 	private int countJobs(Job job) {
 		int count = 0;
 		ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();
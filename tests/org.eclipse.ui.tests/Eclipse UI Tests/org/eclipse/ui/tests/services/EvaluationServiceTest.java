@@ -52,6 +52,7 @@ import org.eclipse.ui.handlers.IHandlerActivation;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.internal.WorkbenchWindow;
 import org.eclipse.ui.internal.handlers.HandlerPersistence;
+import org.eclipse.ui.internal.services.EvaluationReference;
 import org.eclipse.ui.services.IEvaluationReference;
 import org.eclipse.ui.services.IEvaluationService;
 import org.eclipse.ui.services.ISourceProviderService;
@@ -706,6 +707,80 @@ public class EvaluationServiceTest extends UITestCase {
 		}
 	}
 
+	@Test
+	public void testEqualValueNotReevaluated() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		ISourceProviderService sps = window.getService(ISourceProviderService.class);
+		ActiveUserSourceProvider userProvider = (ActiveUserSourceProvider) sps.getSourceProvider("username");
+		userProvider.setUsername("Paul");
+
+		MyEval listener = new MyEval();
+		IEvaluationReference ref = service.addEvaluationListener(new UserExpression("Paul"), listener,
+				IEvaluationService.RESULT);
+		try {
+			EvaluationReference evaluationReference = (EvaluationReference) ref;
+			int evaluationCount = evaluationReference.getEvaluationCount();
+			assertTrue(evaluationCount > 0);
+			assertTrue(listener.currentValue);
+
+			// an equal name is not evaluated again
+			userProvider.setUsername(new String("Paul"));
+			assertEquals(evaluationCount, evaluationReference.getEvaluationCount());
+
+			userProvider.setUsername("John");
+			assertTrue(evaluationReference.getEvaluationCount() > evaluationCount);
+			assertFalse(listener.currentValue);
+		} finally {
+			service.removeEvaluationListener(ref);
+			userProvider.setUsername("guest");
+		}
+	}
+
+	@Test
+	public void testEqualSelectionReevaluated() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		IWorkbenchPage page = window.getActivePage();
+		SelectionProviderView view = (SelectionProviderView) page.showView(SelectionProviderView.ID);
+		view.setSelection(new StructuredSelection("first"));
+		processEvents();
+
+		MyEval listener = new MyEval();
+		CurrentSelectionExpression expression = new CurrentSelectionExpression();
+		IEvaluationReference ref = service.addEvaluationListener(expression, listener, IEvaluationService.RESULT);
+		try {
+			EvaluationReference evaluationReference = (EvaluationReference) ref;
+			int evaluationCount = evaluationReference.getEvaluationCount();
+			assertTrue(evaluationCount > 0);
+
+			// an equal selection may hold other instances of the elements
+			StructuredSelection equalSelection = new StructuredSelection(new String("first"));
+			view.setSelection(equalSelection);
+			processEvents();
+			assertTrue(evaluationReference.getEvaluationCount() > evaluationCount);
+			assertSame(equalSelection, expression.selection);
+		} finally {
+			service.removeEvaluationListener(ref);
+		}
+	}
+
+	static class CurrentSelectionExpression extends Expression {
+		ISelection selection;
+
+		@Override
+		public void collectExpressionInfo(ExpressionInfo info) {
+			info.addVariableNameAccess(ISources.ACTIVE_CURRENT_SELECTION_NAME);
+		}
+
+		@Override
+		public EvaluationResult evaluate(IEvaluationContext context) {
+			Object o = context.getVariable(ISources.ACTIVE_CURRENT_SELECTION_NAME);
+			selection = o instanceof ISelection s ? s : null;
+			return EvaluationResult.valueOf(selection != null && !selection.isEmpty());
+		}
+	}
+
 	private void assertSelection(final ArrayList<PartSelection> selection, int callIdx, Class<?> clazz, String viewId) {
 		assertEquals(callIdx + 1, selection.size());
 		assertEquals(clazz, getSelection(selection, callIdx)
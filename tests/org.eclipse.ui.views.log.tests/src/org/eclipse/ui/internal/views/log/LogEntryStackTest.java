@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.eclipse.osgi.util.NLS;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the stacks of the entries parsed by an incremental
+ * {@link LogReader}, which are only read from the log file when they are first
+ * requested.
+ */
+public class LogEntryStackTest {
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = Files.createTempFile("logstack", ".log");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private void write(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8);
+	}
+
+	private void append(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+	}
+
+	private List<LogEntry> read(int windowSize) throws IOException {
+		LogReader reader = LogReader.createIncrementalReader(new LogFileIndex(file.toFile(), windowSize), 1, true);
+		reader.update();
+		return reader.getEntries();
+	}
+
+	private String getUnavailableMessage() {
+		return NLS.bind(Messages.LogEntry_stackUnavailable, file.toFile());
+	}
+
+	@Test
+	public void testStacksAcrossWindows() throws IOException {
+		write(LogFileIndexTest.createLog(100));
+		for (int windowSize : new int[] { 100, 128, 257 }) {
+			List<LogEntry> entries = read(windowSize);
+			assertEquals(100, entries.size());
+			for (int i = 0; i < entries.size(); i++) {
+				assertTrue(entries.get(i).hasStack());
+				assertEquals("window size " + windowSize, LogFileIndexTest.stack(i), entries.get(i).getStack());
+			}
+		}
+	}
+
+	@Test
+	public void testStackLongerThanWindow() throws IOException {
+		String line = "\tat " + "x".repeat(1000);
+		write(LogFileIndexTest.createLog(1) + "!ENTRY org.eclipse.ui.views.log 4 0 2026-01-01 10:00:00.000\n"
+				+ "!MESSAGE long\n!STACK 0\njava.lang.Error\n" + line + '\n' + line + '\n');
+		List<LogEntry> entries = read(128);
+		assertEquals(2, entries.size());
+		assertEquals("java.lang.Error" + System.lineSeparator() + line + System.lineSeparator() + line,
+				entries.get(1).getStack());
+	}
+
+	@Test
+	public void testStackContinuedByAppendedLines() throws IOException {
+		write(LogFileIndexTest.createLog(1));
+		LogReader reader = LogReader.createIncrementalReader(new LogFileIndex(file.toFile(), 128), 1, true);
+		reader.update();
+		LogEntry entry = reader.getEntries().get(0);
+		assertEquals(LogFileIndexTest.stack(0), entry.getStack());
+
+		append("\tat org.example.Test.main(Test.java:1)\n");
+		reader.update();
+		assertEquals(LogFileIndexTest.stack(0) + System.lineSeparator() + "\tat org.example.Test.main(Test.java:1)",
+				entry.getStack());
+	}
+
+	@Test
+	public void testStackUnavailableAfterTruncation() throws IOException {
+		write(LogFileIndexTest.createLog(10));
+		List<LogEntry> entries = read(128);
+
+		// e.g. the log was cleared
+		write(LogFileIndexTest.createLog(1));
+		assertTrue(entries.get(9).hasStack());
+		assertEquals(getUnavailableMessage(), entries.get(9).getStack());
+		// the stack of the first entry is still at its place
+		assertEquals(LogFileIndexTest.stack(0), entries.get(0).getStack());
+	}
+
+	@Test
+	public void testStackUnavailableAfterRotation() throws IOException {
+		String log = LogFileIndexTest.createLog(10);
+		write(log);
+		List<LogEntry> entries = read(128);
+
+		// a longer file, with other lines at the offsets of the stacks
+		write("eclipse.buildId=unknown\n" + log);
+		assertEquals(getUnavailableMessage(), entries.get(5).getStack());
+	}
+
+	@Test
+	public void testStackReadableAgain() throws IOException {
+		String log = LogFileIndexTest.createLog(10);
+		write(log);
+		List<LogEntry> entries = read(128);
+
+		Files.delete(file);
+		assertEquals(getUnavailableMessage(), entries.get(3).getStack());
+		// the file could not be read, the stack may be read later
+		write(log);
+		assertEquals(LogFileIndexTest.stack(3), entries.get(3).getStack());
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the {@link LogFileIndex}, scanning the log file through windows
+ * which are much smaller than the default ones, so that records and stacks
+ * span many window boundaries.
+ */
+public class LogFileIndexTest {
+	private static final String SESSION = "!SESSION 2026-01-01 10:00:00.000 -----------------------------------------------\n";
+
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = Files.createTempFile("logindex", ".log");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	/**
+	 * Returns a log of one session with the given number of entries, each with
+	 * a stack of a few lines.
+	 */
+	static String createLog(int entryCount) {
+		StringBuilder log = new StringBuilder(SESSION);
+		for (int i = 0; i < entryCount; i++) {
+			log.append("!ENTRY org.eclipse.ui.views.log 4 0 2026-01-01 10:00:00.000\n");
+			log.append("!MESSAGE Entry ").append(i).append('\n');
+			log.append("!STACK 0\n");
+			log.append(stack(i).replace(System.lineSeparator(), "\n")).append('\n');
+		}
+		return log.toString();
+	}
+
+	/**
+	 * Returns the stack of the entry of the given {@link #createLog(int) log},
+	 * as read from the log file.
+	 */
+	static String stack(int entry) {
+		StringBuilder stack = new StringBuilder("java.lang.IllegalStateException: Entry " + entry);
+		for (int i = 0; i < entry % 5; i++) {
+			stack.append(System.lineSeparator()).append("\tat org.example.Test.run(Test.java:").append(i).append(')');
+		}
+		return stack.toString();
+	}
+
+	/**
+	 * Returns the offsets of the lines of the given log starting a record.
+	 */
+	private static List<Long> getRecordOffsets(String log) {
+		List<Long> offsets = new ArrayList<>();
+		byte[] bytes = log.getBytes(StandardCharsets.UTF_8);
+		int lineStart = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == '\n') {
+				String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+				if (line.startsWith(LogSession.SESSION) || line.startsWith("!ENTRY")) {
+					offsets.add(Long.valueOf(lineStart));
+				}
+				lineStart = i + 1;
+			}
+		}
+		return offsets;
+	}
+
+	private static List<Long> getRecordOffsets(LogFileIndex index) {
+		List<Long> offsets = new ArrayList<>();
+		long offset = index.getRecordOffsetFrom(0);
+		while (offset < index.getIndexedLength()) {
+			offsets.add(Long.valueOf(offset));
+			offset = index.getRecordOffsetFrom(offset + 1);
+		}
+		return offsets;
+	}
+
+	private void write(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8);
+	}
+
+	private void append(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+	}
+
+	@Test
+	public void testRecordsAcrossWindows() throws IOException {
+		String log = createLog(200);
+		write(log);
+		for (int windowSize : new int[] { 100, 128, 257, 4096, 64 * 1024 * 1024 }) {
+			LogFileIndex index = new LogFileIndex(file.toFile(), windowSize);
+			assertFalse(index.update());
+			assertEquals("window size " + windowSize, getRecordOffsets(log), getRecordOffsets(index));
+			assertEquals(201, index.getRecordCount());
+			assertEquals(Files.size(file), index.getIndexedLength());
+			assertEquals(0, index.getLastSessionOffset());
+		}
+	}
+
+	@Test
+	public void testLineLongerThanWindow() throws IOException {
+		String log = createLog(3) + "x".repeat(1000) + '\n' + createLog(3);
+		write(log);
+		LogFileIndex index = new LogFileIndex(file.toFile(), 128);
+		index.update();
+		assertEquals(getRecordOffsets(log), getRecordOffsets(index));
+		assertEquals(log.indexOf(SESSION, 1), index.getLastSessionOffset());
+	}
+
+	@Test
+	public void testAppended() throws IOException {
+		String log = createLog(10);
+		write(log);
+		LogFileIndex index = new LogFileIndex(file.toFile(), 100);
+		index.update();
+
+		// the last line is only indexed once it is terminated
+		String appended = createLog(5);
+		append(appended.substring(0, 20));
+		assertFalse(index.update());
+		assertEquals(log.length(), index.getIndexedLength());
+
+		append(appended.substring(20));
+		assertFalse(index.update());
+		assertEquals(getRecordOffsets(log + appended), getRecordOffsets(index));
+		assertEquals(log.length(), index.getLastSessionOffset());
+	}
+
+	@Test
+	public void testTruncatedAfterIndexing() throws IOException {
+		write(createLog(50));
+		LogFileIndex index = new LogFileIndex(file.toFile(), 128);
+		index.update();
+
+		String log = createLog(10);
+		write(log);
+		assertTrue(index.update());
+		assertEquals(getRecordOffsets(log), getRecordOffsets(index));
+		assertEquals(11, index.getRecordCount());
+	}
+
+	@Test
+	public void testRotatedAfterIndexing() throws IOException {
+		write(createLog(10));
+		LogFileIndex index = new LogFileIndex(file.toFile(), 128);
+		index.update();
+
+		// a longer file whose records are at other offsets
+		String log = "eclipse.buildId=unknown\n" + createLog(20);
+		write(log);
+		assertTrue(index.update());
+		assertEquals(getRecordOffsets(log), getRecordOffsets(index));
+		assertEquals(21, index.getRecordCount());
+	}
+}
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the incremental {@link LogReader}, which only parses the lines
+ * appended to a log file since its previous update.
+ */
+public class LogReaderTest {
+	private static final String SESSION_1 = "!SESSION 2026-01-01 10:00:00.000 -----------------------------------------------\n";
+	private static final String SESSION_2 = "!SESSION 2026-01-02 10:00:00.000 -----------------------------------------------\n";
+
+	private Path file;
+
+	private LogFileIndex index;
+
+	@Before
+	public void setUp() throws IOException {
+		file = Files.createTempFile("logreader", ".log");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	static String entry(int severity, String message) {
+		return "!ENTRY org.eclipse.ui.views.log " + severity + " 0 2026-01-01 10:00:00.000\n!MESSAGE " + message
+				+ "\n";
+	}
+
+	private void write(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8);
+	}
+
+	private void append(String text) throws IOException {
+		Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+	}
+
+	private LogReader createReader(boolean showAllSessions) {
+		index = new LogFileIndex(file.toFile());
+		return LogReader.createIncrementalReader(index, 1, showAllSessions);
+	}
+
+	@Test
+	public void testAppendedEntries() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first"));
+		LogReader reader = createReader(false);
+		assertTrue(reader.update());
+		List<LogEntry> entries = reader.getEntries();
+		assertEquals(1, entries.size());
+		LogEntry first = entries.get(0);
+		assertEquals("first", first.getMessage());
+		assertEquals(IStatus.ERROR, first.getSeverity());
+
+		assertFalse(reader.update());
+		assertEquals(1, entries.size());
+
+		append(entry(IStatus.WARNING, "second"));
+		assertFalse(reader.update());
+		assertEquals(2, entries.size());
+		assertSame(first, entries.get(0));
+		assertEquals("second", entries.get(1).getMessage());
+		assertSame(reader.getCurrentSession(), entries.get(1).getSession());
+		assertFalse(reader.isTailOnly());
+	}
+
+	@Test
+	public void testContinuedMessage() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first"));
+		LogReader reader = createReader(false);
+		reader.update();
+
+		// the message of the last entry is continued by the appended lines
+		append("continued\n");
+		assertFalse(reader.update());
+		assertEquals(1, reader.getEntries().size());
+		assertEquals("first" + System.lineSeparator() + "continued", reader.getEntries().get(0).getMessage());
+	}
+
+	@Test
+	public void testPartialEntry() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first") + "!ENTRY org.eclipse.ui.views.log 2 0 2026-01-01 10:00:00.000\n!MESSAGE sec");
+		LogReader reader = createReader(false);
+		reader.update();
+		// the last line is only parsed once it is terminated
+		List<LogEntry> entries = reader.getEntries();
+		assertEquals(2, entries.size());
+		assertEquals("first", entries.get(0).getMessage());
+		assertNull(entries.get(1).getMessage());
+
+		append("ond\n");
+		assertFalse(reader.update());
+		assertEquals(2, entries.size());
+		assertEquals("second", entries.get(1).getMessage());
+	}
+
+	@Test
+	public void testPartialRecordLine() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first") + "!ENTRY org.eclipse.ui.views.log 2 0 2026-01-01");
+		LogReader reader = createReader(false);
+		reader.update();
+		assertEquals(1, reader.getEntries().size());
+
+		append(" 10:00:00.000\n!MESSAGE second\n");
+		assertFalse(reader.update());
+		assertEquals(2, reader.getEntries().size());
+		assertEquals(IStatus.WARNING, reader.getEntries().get(1).getSeverity());
+		assertEquals("second", reader.getEntries().get(1).getMessage());
+	}
+
+	@Test
+	public void testNewSession() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first"));
+		LogReader reader = createReader(false);
+		reader.update();
+		LogSession firstSession = reader.getCurrentSession();
+
+		// the entries of the previous session are not shown anymore
+		append(SESSION_2 + entry(IStatus.ERROR, "second"));
+		assertTrue(reader.update());
+		assertEquals(1, reader.getEntries().size());
+		assertEquals("second", reader.getEntries().get(0).getMessage());
+		assertTrue(reader.getCurrentSession().getDate().after(firstSession.getDate()));
+	}
+
+	@Test
+	public void testNewSessionShowingAllSessions() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first"));
+		LogReader reader = createReader(true);
+		reader.update();
+		LogSession firstSession = reader.getCurrentSession();
+
+		append(SESSION_2 + entry(IStatus.ERROR, "second"));
+		assertFalse(reader.update());
+		List<LogEntry> entries = reader.getEntries();
+		assertEquals(2, entries.size());
+		assertSame(firstSession, entries.get(0).getSession());
+		assertSame(reader.getCurrentSession(), entries.get(1).getSession());
+	}
+
+	@Test
+	public void testLastSessionOnly() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first") + SESSION_2 + entry(IStatus.ERROR, "second"));
+		LogReader reader = createReader(false);
+		reader.update();
+		// the previous session is not even parsed
+		assertEquals(1, reader.getEntries().size());
+		assertEquals("second", reader.getEntries().get(0).getMessage());
+		assertTrue(reader.isTailOnly());
+
+		reader = createReader(true);
+		reader.update();
+		assertEquals(2, reader.getEntries().size());
+		assertFalse(reader.isTailOnly());
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first") + entry(IStatus.ERROR, "second"));
+		LogReader reader = createReader(false);
+		reader.update();
+		assertEquals(2, reader.getEntries().size());
+
+		// e.g. the log was cleared, the entries are parsed again
+		write(SESSION_2 + entry(IStatus.INFO, "new"));
+		assertTrue(reader.update());
+		assertEquals(1, reader.getEntries().size());
+		assertEquals("new", reader.getEntries().get(0).getMessage());
+
+		append(entry(IStatus.INFO, "next"));
+		assertFalse(reader.update());
+		assertEquals(2, reader.getEntries().size());
+	}
+
+	@Test
+	public void testDeleted() throws IOException {
+		write(SESSION_1 + entry(IStatus.ERROR, "first"));
+		LogReader reader = createReader(false);
+		reader.update();
+
+		Files.delete(file);
+		assertTrue(reader.update());
+		assertTrue(reader.getEntries().isEmpty());
+		assertFalse(reader.update());
+
+		// created again with a longer content, the index does not keep the old offsets
+		write(SESSION_2 + entry(IStatus.ERROR, "again") + entry(IStatus.ERROR, "more"));
+		assertTrue(reader.update());
+		assertEquals(2, reader.getEntries().size());
+		assertEquals("again", reader.getEntries().get(0).getMessage());
+		assertEquals("more", reader.getEntries().get(1).getMessage());
+		assertEquals(3, index.getRecordCount());
+	}
+
+	@Test
+	public void testTail() throws IOException {
+		StringBuilder log = new StringBuilder(SESSION_1);
+		String message = "x".repeat(1000);
+		int count = 2000;
+		for (int i = 0; i < count; i++) {
+			log.append(entry(IStatus.ERROR, i + " " + message));
+		}
+		write(log.toString());
+		LogReader reader = createReader(true);
+		reader.update();
+		// only the last megabyte is parsed, from the start of an entry
+		List<LogEntry> entries = reader.getEntries();
+		assertTrue(reader.isTailOnly());
+		assertTrue(entries.size() < count);
+		assertTrue(entries.size() > 0);
+		assertEquals((count - 1) + " " + message, entries.get(entries.size() - 1).getMessage());
+		assertEquals((count - entries.size()) + " " + message, entries.get(0).getMessage());
+	}
+}
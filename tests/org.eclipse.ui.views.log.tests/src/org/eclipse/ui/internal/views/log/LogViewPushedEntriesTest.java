@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.junit.Test;
+
+/**
+ * Tests the matching of the entries shown by the {@link LogView} as they were
+ * logged with their counterparts parsed from the log file, which are not shown
+ * again.
+ */
+public class LogViewPushedEntriesTest {
+	private static final String PLUGIN_ID = "org.eclipse.ui.views.log";
+
+	private static LogEntry pushed(int severity, String message) {
+		return new LogEntry(new Status(severity, PLUGIN_ID, message));
+	}
+
+	private static LogEntry parsed(int severity, String message) {
+		LogEntry entry = new LogEntry();
+		entry.processEntry("!ENTRY " + PLUGIN_ID + " " + severity + " 0 2026-01-01 10:00:00.000");
+		entry.setMessage(message);
+		return entry;
+	}
+
+	@Test
+	public void testFoundAmongOtherEntries() {
+		LogEntry first = parsed(IStatus.ERROR, "first");
+		LogEntry other = parsed(IStatus.INFO, "not logged by the view");
+		LogEntry second = parsed(IStatus.WARNING, "second");
+		Set<LogEntry> found = LogView.findPushedEntries(
+				List.of(pushed(IStatus.ERROR, "first"), pushed(IStatus.WARNING, "second")),
+				List.of(first, other, second));
+		assertEquals(2, found.size());
+		assertTrue(found.contains(first));
+		assertTrue(found.contains(second));
+	}
+
+	@Test
+	public void testSameMessageMatchedOnce() {
+		LogEntry first = parsed(IStatus.ERROR, "same");
+		LogEntry second = parsed(IStatus.ERROR, "same");
+		Set<LogEntry> found = LogView.findPushedEntries(List.of(pushed(IStatus.ERROR, "same")),
+				List.of(first, second));
+		assertEquals(1, found.size());
+		assertTrue(found.contains(first));
+
+		found = LogView.findPushedEntries(List.of(pushed(IStatus.ERROR, "same"), pushed(IStatus.ERROR, "same")),
+				List.of(first, second));
+		assertEquals(2, found.size());
+	}
+
+	@Test
+	public void testSeverityMatched() {
+		assertNull(LogView.findPushedEntries(List.of(pushed(IStatus.ERROR, "message")),
+				List.of(parsed(IStatus.WARNING, "message"))));
+	}
+
+	@Test
+	public void testMissingEntry() {
+		// e.g. the entry was logged before the log file was replaced
+		assertNull(LogView.findPushedEntries(List.of(pushed(IStatus.ERROR, "missing")),
+				List.of(parsed(IStatus.ERROR, "other"))));
+	}
+
+	@Test
+	public void testOrderMatched() {
+		assertNull(LogView.findPushedEntries(
+				List.of(pushed(IStatus.ERROR, "first"), pushed(IStatus.ERROR, "second")),
+				List.of(parsed(IStatus.ERROR, "second"), parsed(IStatus.ERROR, "first"))));
+	}
+
+	@Test
+	public void testNothingPushed() {
+		assertTrue(LogView.findPushedEntries(List.of(), List.of(parsed(IStatus.ERROR, "first"))).isEmpty());
+	}
+}
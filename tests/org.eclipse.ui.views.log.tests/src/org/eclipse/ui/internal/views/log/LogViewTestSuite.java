@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Test suite for {@code org.eclipse.ui.views.log} plug-in.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+	LogReaderTest.class,
+	LogViewPushedEntriesTest.class,
+	LogFileIndexTest.class,
+	LogEntryStackTest.class})
+public class LogViewTestSuite {
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IEditorPart;
+
+import org.eclipse.ui.internal.texteditor.EditorOpeningRecorder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the flight recorder events of the opening of text editors.
+ */
+public class EditorOpeningRecorderTest {
+
+	@Test
+	public void testOpeningRecorded() throws Exception {
+		IEditorPart editor= mock(IEditorPart.class);
+		IEditorInput input= mock(IEditorInput.class);
+		when(input.getName()).thenReturn("input.txt");
+		Path file= Files.createTempFile("editors", ".jfr");
+		try (Recording recording= new Recording()) {
+			recording.enable("org.eclipse.ui.texteditor.EditorOpening");
+			recording.start();
+			Object event= EditorOpeningRecorder.begin();
+			assertNotNull(event);
+			EditorOpeningRecorder.commit(event, EditorOpeningRecorder.INIT, editor, input);
+			EditorOpeningRecorder.commit(EditorOpeningRecorder.begin(), EditorOpeningRecorder.CREATE_PART_CONTROL, editor, null);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events= RecordingFile.readAllEvents(file);
+			assertEquals(2, events.size());
+			assertEquals(EditorOpeningRecorder.INIT, events.get(0).getString("phase"));
+			assertEquals(editor.getClass().getName(), events.get(0).getString("editorClass"));
+			assertEquals("input.txt", events.get(0).getString("inputName"));
+			assertEquals(EditorOpeningRecorder.CREATE_PART_CONTROL, events.get(1).getString("phase"));
+			assertNull(events.get(1).getString("inputName"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}